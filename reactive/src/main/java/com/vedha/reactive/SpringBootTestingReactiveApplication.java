@@ -0,0 +1,16 @@
+package com.vedha.reactive;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+@OpenAPIDefinition(info = @Info(title = "Spring Boot Testing Reactive", description = "The Employee Apis On WebFlux And R2DBC", version = "V1.0"))
+public class SpringBootTestingReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(SpringBootTestingReactiveApplication.class, args);
+	}
+
+}
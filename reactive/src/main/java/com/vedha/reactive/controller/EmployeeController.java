@@ -0,0 +1,210 @@
+package com.vedha.reactive.controller;
+
+import com.vedha.reactive.dto.EmployeeBatchResult;
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.exception.EmployeeConflictException;
+import com.vedha.reactive.service.EmployeeService;
+import com.vedha.reactive.utill.EmployeeCsv;
+import com.vedha.reactive.utill.EmployeeETag;
+import com.vedha.reactive.utill.ExportFormat;
+import com.vedha.reactive.utill.SortField;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// The MVC /api/employee contract on WebFlux: list endpoints return a Flux that is written as the rows arrive,
+// element by element for application/x-ndjson, and the driver is only asked for more rows when the client keeps reading
+@RestController
+@RequestMapping("/api/employee")
+@RequiredArgsConstructor
+@Tag(name = "Employee", description = "Employee Apis")
+public class EmployeeController {
+
+    private final EmployeeService employeeService;
+
+    // Clients may keep a response for max-age, after that they revalidate with If-None-Match
+    @Value("${employee.http.max-age:0s}")
+    private Duration maxAge;
+
+    @Operation(summary = "Create Employee", description = "Creates New Employees")
+    @ApiResponse(responseCode = "201", description = "HTTP Status 201 Created")
+    @PostMapping(value = "/create", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody Employee employee) {
+
+        return employeeService.saveEmployee(employee).map(savedEmployee -> new ResponseEntity<>(savedEmployee, HttpStatus.CREATED));
+    }
+
+    @Operation(summary = "Create Employees In Batch", description = "Creates New Employees From A JSON Array Or NDJSON With Per Row Results, Rows Are Inserted While The Body Is Still Arriving")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @PostMapping(value = "/createBatch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeBatchResult> createEmployeeBatch(@RequestBody Flux<Employee> employees) {
+
+        return employeeService.saveAllEmployee(employees);
+    }
+
+    @Operation(summary = "Get All Employees", description = "Get All Employees, Streamed As A JSON Array Or One Object Per Line With application/x-ndjson")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/getAll", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Employee> getAllEmployees() {
+
+        return employeeService.getAllEmployee();
+    }
+
+    @Operation(summary = "Export All Employees", description = "Streams All Employees As NDJSON With Constant Memory")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/export", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> exportEmployees() {
+
+        return employeeService.getAllEmployee();
+    }
+
+    // Split from the NDJSON handler so the CSV body keeps its String element type for the text encoder
+    @Operation(summary = "Export All Employees As CSV", description = "Streams All Employees As CSV With Constant Memory")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/export", params = "format=CSV", consumes = MediaType.ALL_VALUE, produces = "text/csv")
+    public ResponseEntity<Flux<String>> exportEmployeesAsCsv() {
+
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(ExportFormat.CSV.getMediaType()))
+                .body(Flux.concat(Mono.just(EmployeeCsv.HEADER), employeeService.getAllEmployee().map(EmployeeCsv::line)));
+    }
+
+    @Operation(summary = "Get Employee By Id", description = "Get Employee By Id")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/getById", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@RequestParam("employeeId") Long employeeId, ServerWebExchange exchange) {
+
+        // A conditional poll is answered from the version column alone, the row is only loaded when it changed
+        if (exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) != null) {
+            return employeeService.getEmployeeVersion(employeeId)
+                    .flatMap(version -> {
+                        String eTag = EmployeeETag.of(employeeId, version);
+                        return exchange.checkNotModified(eTag) ? Mono.just(this.<Employee>notModified(eTag)) : loadEmployee(employeeId);
+                    })
+                    .defaultIfEmpty(ResponseEntity.notFound().build());
+        }
+
+        return loadEmployee(employeeId);
+    }
+
+    @Operation(summary = "update Employee By Id", description = "update Employee By Id, With If-Match Only When The Employee Is Still At That Version")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @ApiResponse(responseCode = "412", description = "HTTP Status 412 Precondition Failed, The Employee Changed Since The If-Match ETag")
+    @PutMapping(value = "/updateById", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Employee>> updateEmployeeById(@RequestParam("employeeId") Long employeeId,
+                                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                             @RequestBody Employee updatedEmployee) {
+
+        return updateById(employeeId, ifMatch, updatedEmployee);
+    }
+
+    @Operation(summary = "Patch Employee By Id", description = "Updates Only The Fields Present In The Body, With If-Match Only When The Employee Is Still At That Version")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @ApiResponse(responseCode = "412", description = "HTTP Status 412 Precondition Failed, The Employee Changed Since The If-Match ETag")
+    @PatchMapping(value = "/patchById", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Employee>> patchEmployeeById(@RequestParam("employeeId") Long employeeId,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                            @RequestBody Employee patchedEmployee) {
+
+        return updateById(employeeId, ifMatch, patchedEmployee);
+    }
+
+    @Operation(summary = "Delete Employee By Id", description = "Delete Employee By Id")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @DeleteMapping(value = "/deleteById", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Map<String, Object>>> deleteEmployeeById(@RequestParam("employeeId") Long employeeId) {
+
+        return employeeService.deleteEmployeeById(employeeId).map(deleteCount -> ResponseEntity.ok(Map.of("deleteCount", deleteCount)));
+    }
+
+    @Operation(summary = "Delete Employees By Ids", description = "Deletes Employees By Id List With Chunked Set Based Deletes")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @DeleteMapping(value = "/deleteBatch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Map<String, Object>>> deleteEmployeeBatch(@RequestBody List<Long> employeeIds) {
+
+        return employeeService.deleteEmployeeByIds(employeeIds).map(deleteCount -> ResponseEntity.ok(Map.of("deleteCount", deleteCount)));
+    }
+
+    @Operation(summary = "Delete Employees By Age Range", description = "Deletes Employees With Age Between minAge And maxAge Inclusive")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @DeleteMapping(value = "/deleteByAgeRange", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Map<String, Object>>> deleteEmployeeByAgeRange(@RequestParam("minAge") int minAge, @RequestParam("maxAge") int maxAge) {
+
+        return employeeService.deleteEmployeeByAgeRange(minAge, maxAge).map(deleteCount -> ResponseEntity.ok(Map.of("deleteCount", deleteCount)));
+    }
+
+    @Operation(summary = "Get All Employees Paginated", description = "Get All Employees Paginated And Sorted")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @GetMapping(value = "/getAllPaginated", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Page<Employee>>> getAllEmployeePaginated(@RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
+                                                                        @RequestParam(value = "pageSize", defaultValue = "2") int pageSize,
+                                                                        @RequestParam(value = "sortDirection", defaultValue = "ASC") Sort.Direction sortDirection,
+                                                                        @RequestParam(value = "sortField", defaultValue = "ID") SortField sortField,
+                                                                        ServerWebExchange exchange) {
+
+        return employeeService.getAllEmployeePaginated(pageNumber, pageSize, sortDirection, sortField)
+                .map(page -> {
+                    String eTag = EmployeeETag.ofEmployeePage(page);
+                    if (exchange.checkNotModified(eTag)) return notModified(eTag);
+                    return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl()).body(page);
+                });
+    }
+
+    // Without If-Match (or with "*") the update is unconditional, otherwise it only applies on top of the version in the ETag
+    private Mono<ResponseEntity<Employee>> updateById(Long employeeId, String ifMatch, Employee employee) {
+
+        Mono<Employee> updatedEmployee;
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            updatedEmployee = employeeService.updateEmployeeById(employeeId, employee);
+        } else {
+            Optional<Long> expectedVersion = EmployeeETag.versionOf(ifMatch, employeeId);
+            if (expectedVersion.isEmpty()) return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+            updatedEmployee = employeeService.updateEmployeeById(employeeId, employee, expectedVersion.get());
+        }
+
+        return updatedEmployee.map(updated -> ResponseEntity.ok().eTag(EmployeeETag.of(updated)).body(updated)).defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private Mono<ResponseEntity<Employee>> loadEmployee(Long employeeId) {
+
+        return employeeService.getEmployeeById(employeeId)
+                .map(employee -> ResponseEntity.ok().eTag(EmployeeETag.of(employee)).cacheControl(cacheControl()).body(employee))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // The current ETag comes back with the 412 so the client can re-read and retry
+    @ExceptionHandler(EmployeeConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleEmployeeConflict(EmployeeConflictException e) {
+
+        if (e.getCurrentVersion() == null) return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of("message", e.getMessage()));
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(EmployeeETag.of(e.getEmployeeId(), e.getCurrentVersion())).body(Map.of("message", e.getMessage()));
+    }
+
+    private CacheControl cacheControl() {
+
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl()).build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.vedha.reactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "EmployeeBatchResult", name = "EmployeeBatchResult", description = "Holds The Outcome Of One Row In A Batch Create")
+public class EmployeeBatchResult {
+
+    public enum Status { CREATED, FAILED }
+
+    @Schema(description = "Zero Based Position Of The Row In The Request")
+    private int index;
+
+    private String email;
+
+    private Status status;
+
+    private Long id;
+
+    private String message;
+}
@@ -0,0 +1,42 @@
+package com.vedha.reactive.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// Same employees table as the JPA entity, the schema itself is owned by the MVC application
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("employees")
+@Schema(title = "Employee", name = "Employee", description = "Holds Employee In Table")
+public class Employee {
+
+    @Id
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @Column("name")
+    private String name;
+
+    @Column("age")
+    private Integer age;
+
+    @Column("email")
+    private String email;
+
+    // Bumped by every update, also the source of the ETag
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    @Column("version")
+    private Long version;
+}
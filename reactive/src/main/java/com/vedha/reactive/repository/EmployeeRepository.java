@@ -0,0 +1,49 @@
+package com.vedha.reactive.repository;
+
+import com.vedha.reactive.entity.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface EmployeeRepository extends R2dbcRepository<Employee, Long> {
+
+    Flux<Employee> findAllBy(Pageable pageable);
+
+    // Single statement update, null arguments keep the current column value
+    @Modifying
+    @Query("update employees set name = coalesce(:name, name), age = coalesce(:age, age), email = coalesce(:email, email), version = version + 1 where id = :id")
+    Mono<Integer> updateEmployeeById(Long id, String name, Integer age, String email);
+
+    // Same update as a compare and set on the version the caller last read (If-Match), 0 rows when the row is gone or was changed since
+    @Modifying
+    @Query("update employees set name = coalesce(:name, name), age = coalesce(:age, age), email = coalesce(:email, email), version = version + 1 where id = :id and version = :version")
+    Mono<Integer> updateEmployeeByIdAndVersion(Long id, Long version, String name, Integer age, String email);
+
+    // Primary key lookup of the version alone, lets conditional reads skip loading the row
+    @Query("select version from employees where id = :id")
+    Mono<Long> findVersionById(Long id);
+
+    @Query("select email from employees where email in (:emails)")
+    Flux<String> findExistingEmails(Collection<String> emails);
+
+    @Modifying
+    @Query("delete from employees where id = :id")
+    Mono<Integer> deleteEmployeeById(Long id);
+
+    @Modifying
+    @Query("delete from employees where id in (:ids)")
+    Mono<Integer> deleteAllByIds(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from employees where id >= :fromId and id < :toId and age between :minAge and :maxAge")
+    Mono<Integer> deleteByIdRangeAndAgeBetween(Long fromId, Long toId, Integer minAge, Integer maxAge);
+
+    // Empty when no id is left at or above fromId
+    @Query("select id from employees where id >= :fromId order by id limit 1")
+    Mono<Long> findFirstIdFrom(Long fromId);
+}
@@ -0,0 +1,36 @@
+package com.vedha.reactive.service;
+
+import com.vedha.reactive.dto.EmployeeBatchResult;
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.utill.SortField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface EmployeeService {
+
+    Mono<Employee> saveEmployee(Employee employee);
+
+    Flux<EmployeeBatchResult> saveAllEmployee(Flux<Employee> employees);
+
+    Flux<Employee> getAllEmployee();
+
+    Mono<Employee> getEmployeeById(Long employeeId);
+
+    Mono<Long> getEmployeeVersion(Long employeeId);
+
+    Mono<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee);
+
+    Mono<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee, Long expectedVersion);
+
+    Mono<Long> deleteEmployeeById(Long employeeId);
+
+    Mono<Long> deleteEmployeeByIds(List<Long> employeeIds);
+
+    Mono<Long> deleteEmployeeByAgeRange(int minAge, int maxAge);
+
+    Mono<Page<Employee>> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField);
+}
@@ -0,0 +1,197 @@
+package com.vedha.reactive.service.impl;
+
+import com.vedha.reactive.dto.EmployeeBatchResult;
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.exception.EmployeeConflictException;
+import com.vedha.reactive.exception.EmployeeException;
+import com.vedha.reactive.repository.EmployeeRepository;
+import com.vedha.reactive.service.EmployeeService;
+import com.vedha.reactive.utill.SortField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeServiceImpl implements EmployeeService {
+
+    // Rows requested from the driver per round, the subscriber's demand (the socket) decides when the next round is asked for
+    private static final int STREAM_PREFETCH = 256;
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+
+        // Single insert, the unique index on email rejects duplicates even under concurrent creates
+        return employeeRepository.save(employee)
+                .onErrorMap(EmployeeServiceImpl::isDuplicateEmail, e -> new EmployeeException("Employee Already Present: " + employee.getEmail(), e));
+    }
+
+    @Override
+    public Flux<EmployeeBatchResult> saveAllEmployee(Flux<Employee> employees) {
+
+        // Rows are taken INSERT_CHUNK_SIZE at a time as the body is decoded, so a large NDJSON upload is never held whole.
+        // Every chunk commits on its own, a transaction around the whole Flux would keep one connection and its locks for the upload
+        return Flux.defer(() -> {
+            Set<String> batchEmails = new HashSet<>();
+            return employees.index().buffer(INSERT_CHUNK_SIZE).concatMap(chunk -> transactionalOperator.transactional(saveChunk(chunk, batchEmails)));
+        });
+    }
+
+    private Flux<EmployeeBatchResult> saveChunk(List<Tuple2<Long, Employee>> chunk, Set<String> batchEmails) {
+
+        List<EmployeeBatchResult> results = new ArrayList<>(chunk.size());
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int position = 0; position < chunk.size(); position++) {
+            Employee employee = chunk.get(position).getT2();
+            EmployeeBatchResult result = EmployeeBatchResult.builder().index(chunk.get(position).getT1().intValue()).email(employee.getEmail()).build();
+            if (employee.getName() == null || employee.getAge() == null || employee.getEmail() == null) {
+                failed(result, "Name, Age And Email Are Required");
+            } else if (!batchEmails.add(employee.getEmail())) {
+                failed(result, "Duplicate Email In Batch: " + employee.getEmail());
+            } else {
+                candidates.put(employee.getEmail(), position);
+            }
+            results.add(result);
+        }
+        if (candidates.isEmpty()) return Flux.fromIterable(results);
+
+        // One lookup per chunk for the emails already stored, the rest are inserted
+        return employeeRepository.findExistingEmails(candidates.keySet()).collect(Collectors.toSet())
+                .flatMapMany(existingEmails -> {
+                    List<Employee> newEmployees = new ArrayList<>();
+                    List<EmployeeBatchResult> newResults = new ArrayList<>();
+                    candidates.forEach((email, position) -> {
+                        if (existingEmails.contains(email)) {
+                            failed(results.get(position), "Employee Already Present: " + email);
+                        } else {
+                            newEmployees.add(chunk.get(position).getT2());
+                            newResults.add(results.get(position));
+                        }
+                    });
+                    return employeeRepository.saveAll(newEmployees).index()
+                            .doOnNext(saved -> {
+                                EmployeeBatchResult result = newResults.get(saved.getT1().intValue());
+                                result.setStatus(EmployeeBatchResult.Status.CREATED);
+                                result.setId(saved.getT2().getId());
+                            })
+                            .thenMany(Flux.fromIterable(results));
+                })
+                .onErrorMap(EmployeeServiceImpl::isDuplicateEmail, e -> new EmployeeException("Batch Conflicts With A Concurrent Create, Retry The Batch", e));
+    }
+
+    // Only the unique email index means "already present", NOT NULL, too long and other violations surface unchanged.
+    // The R2DBC translation raises DuplicateKeyException for unique index violations, and email is the only unique index next to the id
+    private static boolean isDuplicateEmail(Throwable e) {
+
+        return e instanceof DuplicateKeyException;
+    }
+
+    private static void failed(EmployeeBatchResult result, String message) {
+
+        result.setStatus(EmployeeBatchResult.Status.FAILED);
+        result.setMessage(message);
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployee() {
+
+        return employeeRepository.findAll().limitRate(STREAM_PREFETCH);
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(Long employeeId) {
+
+        return employeeRepository.findById(employeeId);
+    }
+
+    @Override
+    public Mono<Long> getEmployeeVersion(Long employeeId) {
+
+        return employeeRepository.findVersionById(employeeId);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee) {
+
+        // One UPDATE instead of SELECT + UPDATE, MySQL has no RETURNING so the row is read back once
+        return employeeRepository.updateEmployeeById(employeeId, updatedEmployee.getName(), updatedEmployee.getAge(), updatedEmployee.getEmail())
+                .onErrorMap(EmployeeServiceImpl::isDuplicateEmail, e -> new EmployeeException("Employee Already Present: " + updatedEmployee.getEmail(), e))
+                .filter(updateCount -> updateCount > 0)
+                .flatMap(updateCount -> employeeRepository.findById(employeeId));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee, Long expectedVersion) {
+
+        return employeeRepository.updateEmployeeByIdAndVersion(employeeId, expectedVersion, updatedEmployee.getName(), updatedEmployee.getAge(), updatedEmployee.getEmail())
+                .onErrorMap(EmployeeServiceImpl::isDuplicateEmail, e -> new EmployeeException("Employee Already Present: " + updatedEmployee.getEmail(), e))
+                .flatMap(updateCount -> updateCount > 0
+                        ? employeeRepository.findById(employeeId)
+                        // No row matched: either it is gone, or somebody else wrote it after the caller read expectedVersion
+                        : employeeRepository.findVersionById(employeeId).flatMap(currentVersion -> Mono.error(new EmployeeConflictException(employeeId, currentVersion, null))));
+    }
+
+    @Override
+    public Mono<Long> deleteEmployeeById(Long employeeId) {
+
+        return employeeRepository.deleteEmployeeById(employeeId).map(Integer::longValue);
+    }
+
+    @Override
+    public Mono<Long> deleteEmployeeByIds(List<Long> employeeIds) {
+
+        // Chunked IN lists keep every statement and its locks short
+        return Flux.fromIterable(new LinkedHashSet<>(employeeIds))
+                .buffer(DELETE_CHUNK_SIZE)
+                .concatMap(employeeRepository::deleteAllByIds)
+                .reduce(0L, (deleteCount, chunkCount) -> deleteCount + chunkCount);
+    }
+
+    @Override
+    public Mono<Long> deleteEmployeeByAgeRange(int minAge, int maxAge) {
+
+        // Id range chunks as in the MVC service, so no statement locks more than DELETE_CHUNK_SIZE ids of the primary key.
+        // Each chunk start comes from the id after the previous range, which jumps over id gaps instead of walking empty ranges
+        return employeeRepository.findFirstIdFrom(Long.MIN_VALUE)
+                .expand(fromId -> employeeRepository.findFirstIdFrom(fromId + DELETE_CHUNK_SIZE))
+                .concatMap(fromId -> employeeRepository.deleteByIdRangeAndAgeBetween(fromId, fromId + DELETE_CHUNK_SIZE, minAge, maxAge))
+                .reduce(0L, (deleteCount, chunkCount) -> deleteCount + chunkCount);
+    }
+
+    @Override
+    public Mono<Page<Employee>> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField) {
+
+        // Content and count run concurrently on separate connections
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sortField.getFiledValue()));
+        return Mono.zip(employeeRepository.findAllBy(pageRequest).collectList(), employeeRepository.count())
+                .map(contentAndTotal -> new PageImpl<>(contentAndTotal.getT1(), pageRequest, contentAndTotal.getT2()));
+    }
+}
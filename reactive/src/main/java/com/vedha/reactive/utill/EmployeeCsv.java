@@ -0,0 +1,24 @@
+package com.vedha.reactive.utill;
+
+import com.vedha.reactive.entity.Employee;
+
+// One CSV line per employee, same columns and quoting as the MVC export
+public final class EmployeeCsv {
+
+    public static final String HEADER = "id,name,age,email\n";
+
+    private EmployeeCsv() {
+    }
+
+    public static String line(Employee employee) {
+
+        return employee.getId() + "," + csvValue(employee.getName()) + "," + employee.getAge() + "," + csvValue(employee.getEmail()) + "\n";
+    }
+
+    private static String csvValue(String value) {
+
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
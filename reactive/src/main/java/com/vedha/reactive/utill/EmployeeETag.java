@@ -0,0 +1,54 @@
+package com.vedha.reactive.utill;
+
+import com.vedha.reactive.entity.Employee;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// Same validators as the MVC application, so a client can revalidate against either: strong "id-version" for one employee,
+// a weak digest of the page request, total and every (id, version) for a page
+public final class EmployeeETag {
+
+    private EmployeeETag() {
+    }
+
+    public static String of(Employee employee) {
+
+        return of(employee.getId(), employee.getVersion());
+    }
+
+    public static String of(Long employeeId, Long version) {
+
+        return "\"" + employeeId + "-" + version + "\"";
+    }
+
+    // Version carried by a strong "id-version" tag of this employee, a weak or foreign tag never matches an If-Match
+    public static Optional<Long> versionOf(String eTag, Long employeeId) {
+
+        String tag = eTag.trim();
+        String prefix = "\"" + employeeId + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) return Optional.empty();
+        try {
+            return Optional.of(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static String ofEmployeePage(Page<Employee> page) {
+
+        StringBuilder fingerprint = new StringBuilder().append(page.getPageable()).append('|').append("ENTITY").append('|').append(page.getTotalElements());
+        page.getContent().forEach(employee -> fingerprint.append('|').append(employee.getId()).append(':').append(employee.getVersion()));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"p-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 Not Available", e);
+        }
+    }
+}
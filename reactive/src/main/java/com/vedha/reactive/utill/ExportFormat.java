@@ -0,0 +1,15 @@
+package com.vedha.reactive.utill;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson"),
+
+    CSV("text/csv");
+
+    private final String mediaType;
+}
@@ -0,0 +1,14 @@
+create table if not exists employees (
+    id bigint auto_increment primary key,
+    name varchar(255) not null,
+    age int not null,
+    email varchar(255) not null,
+    version bigint default 0 not null,
+    email_domain varchar(255) generated always as (lower(substring(email, locate('@', email) + 1)))
+);
+
+create unique index if not exists uk_employees_email on employees (email);
+create index if not exists idx_employees_email_name on employees (email, name);
+create index if not exists idx_employees_name_age on employees (name, age);
+create index if not exists idx_employees_age_id on employees (age, id);
+create index if not exists idx_employees_email_domain_name on employees (email_domain, name);
@@ -0,0 +1,210 @@
+package com.vedha.reactive.controller;
+
+import com.vedha.reactive.dto.EmployeeBatchResult;
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.exception.EmployeeConflictException;
+import com.vedha.reactive.service.EmployeeService;
+import com.vedha.reactive.utill.SortField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@WebFluxTest(controllers = EmployeeController.class) // Loads Only WebFlux Beans, the service is mocked
+class EmployeeControllerTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Test
+    @DisplayName("JUnit Test For Create Employee Api")
+    public void givenEmployee_whenCreateEmployee_thenReturnCreatedEmployee() {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().name("Vedha").age(23).email("vedha@gmail.com").build();
+        given(employeeService.saveEmployee(any(Employee.class))).willAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setId(1L);
+            return Mono.just(employee);
+        });
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/employee/create").contentType(MediaType.APPLICATION_JSON).bodyValue(vedha).exchange();
+
+        // then - verify the output
+        response.expectStatus().isCreated().expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.name").isEqualTo("Vedha");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Create Employee Batch Api From NDJSON")
+    public void givenNdjsonEmployees_whenCreateEmployeeBatch_thenStreamPerRowResults() {
+
+        // given - pre-condition or setup data
+        given(employeeService.saveAllEmployee(any())).willAnswer(invocation -> {
+            Flux<Employee> employees = invocation.getArgument(0);
+            return employees.index().map(employee -> EmployeeBatchResult.builder().index(employee.getT1().intValue()).email(employee.getT2().getEmail())
+                    .status(EmployeeBatchResult.Status.CREATED).id(employee.getT1() + 1).build());
+        });
+
+        // when - action or the behaviour that we are going to test
+        Flux<EmployeeBatchResult> results = webTestClient.post().uri("/api/employee/createBatch")
+                .contentType(MediaType.APPLICATION_NDJSON).accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"name\":\"Vedha\",\"age\":23,\"email\":\"vedha@gmail.com\"}\n{\"name\":\"Vedha2\",\"age\":24,\"email\":\"vedha2@gmail.com\"}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeBatchResult.class).getResponseBody();
+
+        // then - verify the output
+        StepVerifier.create(results.map(EmployeeBatchResult::getEmail)).expectNext("vedha@gmail.com", "vedha2@gmail.com").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Api As NDJSON")
+    public void givenEmployees_whenGetAllAsNdjson_thenOneObjectPerLine() {
+
+        // given - pre-condition or setup data
+        given(employeeService.getAllEmployee()).willReturn(Flux.just(
+                Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").version(0L).build(),
+                Employee.builder().id(2L).name("Vedha2").age(23).email("vedha2@gmail.com").version(0L).build()));
+
+        // when - action or the behaviour that we are going to test
+        String body = webTestClient.get().uri("/api/employee/getAll").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        // then - verify the output
+        StepVerifier.create(Flux.fromArray(body.split("\n"))).expectNextMatches(line -> line.contains("\"name\":\"Vedha\"")).expectNextMatches(line -> line.contains("\"name\":\"Vedha2\"")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Export Employees Api As CSV")
+    public void givenEmployees_whenExportAsCsv_thenHeaderAndQuotedRows() {
+
+        // given - pre-condition or setup data
+        given(employeeService.getAllEmployee()).willReturn(Flux.just(Employee.builder().id(1L).name("Vedha, S").age(22).email("vedha@gmail.com").build()));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employee/export?format=CSV").accept(MediaType.parseMediaType("text/csv")).exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk().expectBody(String.class).isEqualTo("id,name,age,email\n1,\"Vedha, S\",22,vedha@gmail.com\n");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id Not Modified")
+    public void givenMatchingIfNoneMatch_whenFindById_thenNotModifiedWithoutLoading() {
+
+        // given - pre-condition or setup data
+        given(employeeService.getEmployeeVersion(1L)).willReturn(Mono.just(4L));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employee/getById?employeeId=1").header(HttpHeaders.IF_NONE_MATCH, "\"1-4\"").exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotModified().expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-4\"");
+        verify(employeeService, never()).getEmployeeById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find By Id Empty Employee Negative")
+    public void givenMissingEmployeeId_whenFindById_thenNotFound() {
+
+        // given - pre-condition or setup data
+        given(employeeService.getEmployeeById(2L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employee/getById?employeeId=2").exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For update Employee By Id With Stale If-Match")
+    public void givenStaleIfMatch_whenUpdateEmployeeById_thenPreconditionFailedWithCurrentETag() {
+
+        // given - pre-condition or setup data
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class), eq(4L))).willReturn(Mono.error(new EmployeeConflictException(1L, 6L, null)));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employee/updateById?employeeId=1").header(HttpHeaders.IF_MATCH, "\"1-4\"")
+                .contentType(MediaType.APPLICATION_JSON).bodyValue("{\"age\": 24}").exchange();
+
+        // then - verify the output
+        response.expectStatus().isEqualTo(412).expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-6\"");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Patch Employee By Id")
+    public void givenPartialEmployee_whenPatchEmployeeById_thenReturnUpdatedEmployeeAndETag() {
+
+        // given - pre-condition or setup data
+        Employee patched = Employee.builder().id(1L).name("Vedha").age(30).email("vedha@gmail.com").version(2L).build();
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class))).willReturn(Mono.just(patched));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.patch().uri("/api/employee/patchById?employeeId=1")
+                .contentType(MediaType.APPLICATION_JSON).bodyValue("{\"age\": 30}").exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk().expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-2\"").expectBody().jsonPath("$.age").isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Batch")
+    public void givenEmployeeIds_whenDeleteBatch_thenReturnDeleteCount() {
+
+        // given - pre-condition or setup data
+        given(employeeService.deleteEmployeeByIds(List.of(1L, 2L))).willReturn(Mono.just(2L));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.method(HttpMethod.DELETE).uri("/api/employee/deleteBatch")
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(List.of(1L, 2L)).exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk().expectBody().jsonPath("$.deleteCount").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Paginated Not Modified")
+    public void givenMatchingIfNoneMatch_whenGetAllPaginated_thenNotModified() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.ID))
+                .willReturn(Mono.just(new PageImpl<>(List.of(Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").version(0L).build()), pageRequest, 1)));
+        String eTag = webTestClient.get().uri("/api/employee/getAllPaginated").exchange()
+                .expectStatus().isOk().returnResult(String.class).getResponseHeaders().getETag();
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employee/getAllPaginated").header(HttpHeaders.IF_NONE_MATCH, eTag).exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotModified().expectHeader().valueEquals(HttpHeaders.ETAG, eTag);
+    }
+}
@@ -0,0 +1,47 @@
+package com.vedha.reactive.load;
+
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// WebFlux + R2DBC half of the side by side with MvcH2LoadTests in the MVC module, same load against in-memory H2 in MySQL mode
+@Tag("load")
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveLoadTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll()
+                .thenMany(employeeRepository.saveAll(IntStream.range(0, 1000)
+                        .mapToObj(i -> Employee.builder().name("Load" + i).age(20 + i % 40).email("load" + i + "@gmail.com").build())
+                        .toList()))
+                .blockLast();
+    }
+
+    @Test
+    public void givenConcurrentClients_whenGetAllPaginated_thenReportThroughputAndP99() throws Exception {
+
+        long errors = ClosedLoopLoad.run("webflux-r2dbc-h2", URI.create("http://localhost:" + port + ClosedLoopLoad.PAGINATED_URI));
+
+        assertThat(errors).isZero();
+    }
+}
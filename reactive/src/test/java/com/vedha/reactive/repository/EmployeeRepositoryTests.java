@@ -0,0 +1,140 @@
+package com.vedha.reactive.repository;
+
+import com.vedha.reactive.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@ActiveProfiles("h2")
+class EmployeeRepositoryTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll().block();
+        employee = employeeRepository.save(Employee.builder().name("Vedha").age(23).email("vedha@gmail.com").build()).block();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee Starts At Version 0")
+    public void givenEmployee_whenSave_thenIdAndVersionAssigned() {
+
+        // given - pre-condition or setup data
+        // setup saved one employee
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        assertThat(employee.getId()).isNotNull();
+        StepVerifier.create(employeeRepository.findVersionById(employee.getId())).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id Keeps Null Columns")
+    public void givenPartialEmployee_whenUpdateEmployeeById_thenOnlyGivenColumnsChangeAndVersionBumped() {
+
+        // given - pre-condition or setup data
+        Long employeeId = employee.getId();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.updateEmployeeById(employeeId, null, 30, null)).expectNext(1).verifyComplete();
+
+        // then - verify the output
+        StepVerifier.create(employeeRepository.findById(employeeId))
+                .assertNext(updated -> {
+                    assertThat(updated.getName()).isEqualTo("Vedha");
+                    assertThat(updated.getAge()).isEqualTo(30);
+                    assertThat(updated.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id And Stale Version")
+    public void givenStaleVersion_whenUpdateEmployeeByIdAndVersion_thenNothingUpdated() {
+
+        // given - pre-condition or setup data
+        Long employeeId = employee.getId();
+        employeeRepository.updateEmployeeById(employeeId, "Vedha2", null, null).block();
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(employeeRepository.updateEmployeeByIdAndVersion(employeeId, 0L, null, 40, null)).expectNext(0).verifyComplete();
+        StepVerifier.create(employeeRepository.updateEmployeeByIdAndVersion(employeeId, 1L, null, 40, null)).expectNext(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Existing Emails And Delete By Ids")
+    public void givenEmployees_whenFindExistingEmailsAndDeleteAllByIds_thenOnlyStoredEmailsAndRowsDeleted() {
+
+        // given - pre-condition or setup data
+        Employee employee1 = employeeRepository.save(Employee.builder().name("Vedha1").age(24).email("vedha1@gmail.com").build()).block();
+
+        // when - action or the behaviour that we are going to test
+        List<String> existingEmails = employeeRepository.findExistingEmails(List.of("vedha@gmail.com", "missing@gmail.com", "vedha1@gmail.com")).collectList().block();
+        Integer deleteCount = employeeRepository.deleteAllByIds(List.of(employee.getId(), employee1.getId(), -1L)).block();
+
+        // then - verify the output
+        assertThat(existingEmails).containsExactlyInAnyOrder("vedha@gmail.com", "vedha1@gmail.com");
+        assertThat(deleteCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find All By Pageable")
+    public void givenEmployees_whenFindAllByPageable_thenSortedPage() {
+
+        // given - pre-condition or setup data
+        employeeRepository.save(Employee.builder().name("Arun").age(30).email("arun@gmail.com").build()).block();
+        employeeRepository.save(Employee.builder().name("Bala").age(20).email("bala@gmail.com").build()).block();
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(employeeRepository.findAllBy(PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "age"))).map(Employee::getName))
+                .expectNext("Bala", "Vedha")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee With Existing Email")
+    public void givenExistingEmail_whenSave_thenDuplicateKeyException() {
+
+        // given - pre-condition or setup data
+        Employee duplicate = Employee.builder().name("Vedha2").age(24).email(employee.getEmail()).build();
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(employeeRepository.save(duplicate)).expectError(DuplicateKeyException.class).verify();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete By Id Range And Age")
+    public void givenIdRange_whenDeleteByIdRangeAndAgeBetween_thenOnlyRowsInBothRangesDeleted() {
+
+        // given - pre-condition or setup data
+        Employee older = employeeRepository.save(Employee.builder().name("Vedha2").age(40).email("vedha2@gmail.com").build()).block();
+        Employee outside = employeeRepository.save(Employee.builder().name("Vedha3").age(23).email("vedha3@gmail.com").build()).block();
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(employeeRepository.findFirstIdFrom(Long.MIN_VALUE)).expectNext(employee.getId()).verifyComplete();
+        StepVerifier.create(employeeRepository.deleteByIdRangeAndAgeBetween(employee.getId(), outside.getId(), 20, 30)).expectNext(1).verifyComplete();
+        StepVerifier.create(employeeRepository.findFirstIdFrom(employee.getId())).expectNext(older.getId()).verifyComplete();
+        StepVerifier.create(employeeRepository.findFirstIdFrom(outside.getId() + 1)).verifyComplete();
+    }
+}
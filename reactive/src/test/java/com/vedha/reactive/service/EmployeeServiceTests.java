@@ -0,0 +1,220 @@
+package com.vedha.reactive.service;
+
+import com.vedha.reactive.dto.EmployeeBatchResult;
+import com.vedha.reactive.entity.Employee;
+import com.vedha.reactive.exception.EmployeeConflictException;
+import com.vedha.reactive.exception.EmployeeException;
+import com.vedha.reactive.repository.EmployeeRepository;
+import com.vedha.reactive.service.impl.EmployeeServiceImpl;
+import com.vedha.reactive.utill.SortField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee Duplicate Email")
+    public void givenDuplicateEmail_whenSaveEmployee_thenThrowEmployeeException() {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().name("Vedha").age(23).email("vedha@gmail.com").build();
+        given(employeeRepository.save(vedha)).willReturn(Mono.error(new DuplicateKeyException("Duplicate entry")));
+
+        // when - action or the behaviour that we are going to test
+        Mono<Employee> saved = employeeService.saveEmployee(vedha);
+
+        // then - verify the output
+        StepVerifier.create(saved).expectErrorSatisfies(e -> assertThat(e).isInstanceOf(EmployeeException.class).hasMessageContaining("vedha@gmail.com")).verify();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee Violating Another Constraint")
+    public void givenTooLongName_whenSaveEmployee_thenViolationSurfacesUnchanged() {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().name("V".repeat(300)).age(23).email("vedha@gmail.com").build();
+        given(employeeRepository.save(vedha)).willReturn(Mono.error(new DataIntegrityViolationException("Value too long for column name")));
+
+        // when - action or the behaviour that we are going to test
+        Mono<Employee> saved = employeeService.saveEmployee(vedha);
+
+        // then - verify the output
+        StepVerifier.create(saved).expectError(DataIntegrityViolationException.class).verify();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save All Employee With Duplicate And Existing Emails")
+    public void givenDuplicateAndExistingEmails_whenSaveAllEmployee_thenOnlyNewRowsInserted() {
+
+        // given - pre-condition or setup data
+        Flux<Employee> employees = Flux.just(
+                Employee.builder().name("Vedha").age(23).email("vedha@gmail.com").build(),
+                Employee.builder().name("Vedha2").age(24).email("vedha@gmail.com").build(),
+                Employee.builder().name("Vedha3").age(25).email("existing@gmail.com").build(),
+                Employee.builder().name("Vedha4").build());
+        given(employeeRepository.findExistingEmails(anyCollection())).willReturn(Flux.just("existing@gmail.com"));
+        given(transactionalOperator.transactional(any(Flux.class))).willAnswer(invocation -> invocation.getArgument(0));
+        List<Employee> inserted = new ArrayList<>();
+        given(employeeRepository.saveAll(any(Iterable.class))).willAnswer(invocation -> {
+            Iterable<Employee> toSave = invocation.getArgument(0);
+            toSave.forEach(inserted::add);
+            return Flux.fromIterable(toSave).doOnNext(employee -> employee.setId(10L));
+        });
+
+        // when - action or the behaviour that we are going to test
+        Flux<EmployeeBatchResult> results = employeeService.saveAllEmployee(employees);
+
+        // then - verify the output
+        StepVerifier.create(results.map(EmployeeBatchResult::getStatus))
+                .expectNext(EmployeeBatchResult.Status.CREATED, EmployeeBatchResult.Status.FAILED, EmployeeBatchResult.Status.FAILED, EmployeeBatchResult.Status.FAILED)
+                .verifyComplete();
+        assertThat(inserted).extracting(Employee::getName).containsExactly("Vedha");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save All Employee Committing Per Chunk")
+    public void givenMoreRowsThanOneChunk_whenSaveAllEmployee_thenOneTransactionPerChunk() {
+
+        // given - pre-condition or setup data
+        Flux<Employee> employees = Flux.range(0, 501).map(i -> Employee.builder().name("Vedha" + i).age(23).email("vedha" + i + "@gmail.com").build());
+        given(employeeRepository.findExistingEmails(anyCollection())).willReturn(Flux.empty());
+        given(employeeRepository.saveAll(any(Iterable.class))).willAnswer(invocation -> Flux.fromIterable(invocation.<Iterable<Employee>>getArgument(0)));
+        given(transactionalOperator.transactional(any(Flux.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when - action or the behaviour that we are going to test
+        Flux<EmployeeBatchResult> results = employeeService.saveAllEmployee(employees);
+
+        // then - verify the output
+        StepVerifier.create(results).expectNextCount(501).verifyComplete();
+        verify(transactionalOperator, times(2)).transactional(any(Flux.class));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id With Stale Version")
+    public void givenStaleVersion_whenUpdateEmployeeById_thenThrowConflictWithCurrentVersion() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.updateEmployeeByIdAndVersion(1L, 4L, null, 30, null)).willReturn(Mono.just(0));
+        given(employeeRepository.findVersionById(1L)).willReturn(Mono.just(6L));
+
+        // when - action or the behaviour that we are going to test
+        Mono<Employee> updated = employeeService.updateEmployeeById(1L, Employee.builder().age(30).build(), 4L);
+
+        // then - verify the output
+        StepVerifier.create(updated)
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(EmployeeConflictException.class).extracting("currentVersion").isEqualTo(6L))
+                .verify();
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id With Stale Version On A Deleted Row")
+    public void givenDeletedEmployee_whenUpdateEmployeeByIdWithVersion_thenEmpty() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.updateEmployeeByIdAndVersion(1L, 4L, null, 30, null)).willReturn(Mono.just(0));
+        given(employeeRepository.findVersionById(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going to test
+        Mono<Employee> updated = employeeService.updateEmployeeById(1L, Employee.builder().age(30).build(), 4L);
+
+        // then - verify the output
+        StepVerifier.create(updated).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee By Ids In Chunks")
+    public void givenManyEmployeeIds_whenDeleteEmployeeByIds_thenChunkedAndSummed() {
+
+        // given - pre-condition or setup data
+        List<Long> employeeIds = new ArrayList<>(LongStream.rangeClosed(1, 2500).boxed().toList());
+        employeeIds.add(1L);
+        List<Integer> chunkSizes = new ArrayList<>();
+        given(employeeRepository.deleteAllByIds(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return Mono.just(chunk.size());
+        });
+
+        // when - action or the behaviour that we are going to test
+        Mono<Long> deleteCount = employeeService.deleteEmployeeByIds(employeeIds);
+
+        // then - verify the output
+        StepVerifier.create(deleteCount).expectNext(2500L).verifyComplete();
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee By Age Range In Id Chunks")
+    public void givenIdGap_whenDeleteEmployeeByAgeRange_thenChunkedByIdRangeAndSummed() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.findFirstIdFrom(Long.MIN_VALUE)).willReturn(Mono.just(1L));
+        given(employeeRepository.findFirstIdFrom(1001L)).willReturn(Mono.just(5000L));
+        given(employeeRepository.findFirstIdFrom(6000L)).willReturn(Mono.empty());
+        given(employeeRepository.deleteByIdRangeAndAgeBetween(1L, 1001L, 20, 30)).willReturn(Mono.just(3));
+        given(employeeRepository.deleteByIdRangeAndAgeBetween(5000L, 6000L, 20, 30)).willReturn(Mono.just(2));
+
+        // when - action or the behaviour that we are going to test
+        Mono<Long> deleteCount = employeeService.deleteEmployeeByAgeRange(20, 30);
+
+        // then - verify the output
+        StepVerifier.create(deleteCount).expectNext(5L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Paginated")
+    public void givenEmployees_whenGetAllEmployeePaginated_thenPageWithTotal() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "age"));
+        given(employeeRepository.findAllBy(pageRequest)).willReturn(Flux.just(Employee.builder().id(1L).age(30).build(), Employee.builder().id(2L).age(20).build()));
+        given(employeeRepository.count()).willReturn(Mono.just(7L));
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.DESC, SortField.AGE))
+
+                // then - verify the output
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(2);
+                    assertThat(page.getTotalElements()).isEqualTo(7L);
+                    assertThat(page.getTotalPages()).isEqualTo(4);
+                })
+                .verifyComplete();
+    }
+}
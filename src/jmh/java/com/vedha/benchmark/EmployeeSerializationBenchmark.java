@@ -0,0 +1,109 @@
+package com.vedha.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vedha.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// Jackson cost of the getAll and getAllPaginated response bodies per negotiated format, same ObjectMapper defaults as Spring MVC.
+// The *Gzip variants add what server.compression spends on top; body sizes are printed once per trial
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+
+    public enum Format {
+
+        JSON(Jackson2ObjectMapperBuilder::json),
+        SMILE(Jackson2ObjectMapperBuilder::smile),
+        CBOR(Jackson2ObjectMapperBuilder::cbor);
+
+        private final Supplier<Jackson2ObjectMapperBuilder> builder;
+
+        Format(Supplier<Jackson2ObjectMapperBuilder> builder) {
+            this.builder = builder;
+        }
+    }
+
+    @Param({"20", "1000"})
+    private int size;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private Format format;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    private Page<Employee> page;
+
+    @Setup
+    public void setup() throws IOException {
+
+        objectMapper = format.builder.get().build();
+        employees = IntStream.range(0, size)
+                .mapToObj(i -> Employee.builder().id((long) i).name("Bench" + i).age(20 + i % 40).email("bench" + i + "@gmail.com").version(0L).build())
+                .toList();
+        page = new PageImpl<>(employees, PageRequest.of(3, size), 100_000);
+
+        System.out.printf("%n%s size=%d list=%d bytes (gzip %d), page=%d bytes (gzip %d)%n", format, size,
+                employeeList().length, employeeListGzip().length, employeePage().length, employeePageGzip().length);
+    }
+
+    @Benchmark
+    public byte[] employeeList() throws IOException {
+
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] employeePage() throws IOException {
+
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] employeeListGzip() throws IOException {
+
+        return gzip(employees);
+    }
+
+    @Benchmark
+    public byte[] employeePageGzip() throws IOException {
+
+        return gzip(page);
+    }
+
+    private byte[] gzip(Object body) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzipOutputStream, body);
+        }
+        return bytes.toByteArray();
+    }
+}
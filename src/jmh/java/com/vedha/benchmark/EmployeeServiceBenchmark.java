@@ -0,0 +1,157 @@
+package com.vedha.benchmark;
+
+import com.vedha.SpringBootTestingApplication;
+import com.vedha.dto.EmployeeWindow;
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.EmployeeService;
+import com.vedha.utill.PageCount;
+import com.vedha.utill.SortField;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// EmployeeServiceImpl against H2 in MySQL mode, rows inserted once per fork
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private EmployeeService employeeService;
+
+    private EmployeeRepository employeeRepository;
+
+    // Hibernate's second level cache, emptied for the id the uncached lookup is about to read
+    private Cache entityCache;
+
+    private List<Long> ids;
+
+    private String deepContinuationToken;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        applicationContext = new SpringApplication(SpringBootTestingApplication.class).run("--spring.profiles.active=benchmark");
+        employeeService = applicationContext.getBean(EmployeeService.class);
+        employeeRepository = applicationContext.getBean(EmployeeRepository.class);
+        entityCache = applicationContext.getBean(EntityManagerFactory.class).getCache();
+
+        employeeService.saveAllEmployee(IntStream.range(0, rows)
+                .mapToObj(i -> Employee.builder().name("Bench" + i).age(20 + i % 40).email("bench" + i + "@gmail.com").build())
+                .toList());
+        ids = employeeRepository.findAll().stream().map(Employee::getId).toList();
+
+        // Token pointing at the same depth as deepOffsetPage, for a like for like comparison
+        EmployeeWindow window = employeeService.getAllEmployeeKeysetPaginated(null, rows / 2, Sort.Direction.ASC, SortField.AGE);
+        deepContinuationToken = window.getContinuationToken();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        applicationContext.close();
+    }
+
+    // Picks the id outside the measured call and drops it from the second level cache, so every lookup reads the row
+    @State(Scope.Thread)
+    public static class UncachedId {
+
+        private Long id;
+
+        @Setup(Level.Invocation)
+        public void evict(EmployeeServiceBenchmark benchmark) {
+
+            id = benchmark.randomId();
+            benchmark.entityCache.evict(Employee.class, id);
+        }
+    }
+
+    // Primary key lookup reaching the database: no Spring cache, no coalescing window, no second level cache hit
+    @Benchmark
+    public Object getEmployeeByIdUncached(UncachedId uncachedId) {
+
+        return employeeRepository.findById(uncachedId.id);
+    }
+
+    // Through the service: after warm-up every id sits in the Spring "employee" cache, so this measures cache hits
+    @Benchmark
+    public Object getEmployeeByIdCached() {
+
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public Page<Employee> firstOffsetPage() {
+
+        return employeeService.getAllEmployeePaginated(0, pageSize, Sort.Direction.ASC, SortField.AGE);
+    }
+
+    @Benchmark
+    public Page<Employee> deepOffsetPage() {
+
+        return employeeService.getAllEmployeePaginated(rows / 2 / pageSize, pageSize, Sort.Direction.ASC, SortField.AGE);
+    }
+
+    // Same page as firstOffsetPage without the count(*), and with the maintained estimate as total
+    @Benchmark
+    public Slice<Employee> firstOffsetSlice() {
+
+        return employeeService.getAllEmployeePaginated(0, pageSize, Sort.Direction.ASC, SortField.AGE, Employee.class, PageCount.NONE);
+    }
+
+    @Benchmark
+    public Slice<Employee> firstOffsetPageApproximateCount() {
+
+        return employeeService.getAllEmployeePaginated(0, pageSize, Sort.Direction.ASC, SortField.AGE, Employee.class, PageCount.APPROXIMATE);
+    }
+
+    @Benchmark
+    public EmployeeWindow deepKeysetPage() {
+
+        return employeeService.getAllEmployeeKeysetPaginated(deepContinuationToken, pageSize, Sort.Direction.ASC, SortField.AGE);
+    }
+
+    @Benchmark
+    public Object patchEmployeeById() {
+
+        return employeeService.updateEmployeeById(randomId(), Employee.builder().age(ThreadLocalRandom.current().nextInt(20, 60)).build());
+    }
+
+    private Long randomId() {
+
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
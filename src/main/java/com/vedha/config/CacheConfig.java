@@ -0,0 +1,12 @@
+package com.vedha.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caffeine size/ttl comes from spring.cache.caffeine.spec, hit/miss/eviction metrics are published as cache.* by actuator
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEE_CACHE = "employee";
+}
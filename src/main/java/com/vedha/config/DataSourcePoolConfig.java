@@ -0,0 +1,42 @@
+package com.vedha.config;
+
+import com.vedha.datasource.AdaptivePoolSizeController;
+import com.vedha.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// Off unless employee.datasource.pool.adaptive.enabled, the production profile turns it on
+@Configuration
+@EnableConfigurationProperties(DataSourcePoolProperties.class)
+@ConditionalOnProperty(prefix = "employee.datasource.pool.adaptive", name = "enabled", havingValue = "true")
+public class DataSourcePoolConfig {
+
+    @Bean
+    public AdaptivePoolSizeController adaptivePoolSizeController(DataSource dataSource, MeterRegistry meterRegistry, DataSourcePoolProperties poolProperties) {
+
+        DataSourcePoolProperties.Adaptive adaptive = poolProperties.getAdaptive();
+        AdaptivePoolSizeController controller = new AdaptivePoolSizeController(pools(dataSource), meterRegistry,
+                adaptive.getMinSize(), adaptive.getMaxSize(), adaptive.getTargetWait(), adaptive.getStep(), adaptive.getShrinkAfter());
+        controller.start(adaptive.getInterval());
+        return controller;
+    }
+
+    // The bean is wrapped by datasource-proxy, with replicas configured the primary and every replica pool are sized independently
+    private static List<HikariDataSource> pools(DataSource dataSource) {
+
+        ReadWriteRoutingDataSource routingDataSource = DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class);
+        if (routingDataSource != null) return routingDataSource.getPools();
+
+        HikariDataSource hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        return hikariDataSource == null ? List.of() : List.of(hikariDataSource);
+    }
+}
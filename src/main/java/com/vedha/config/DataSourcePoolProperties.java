@@ -0,0 +1,34 @@
+package com.vedha.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.datasource.pool")
+public class DataSourcePoolProperties {
+
+    private Adaptive adaptive = new Adaptive();
+
+    @Data
+    public static class Adaptive {
+
+        private boolean enabled;
+
+        // Bounds for maximum-pool-size, the configured spring.datasource.hikari value is the starting point
+        private int minSize = 10;
+
+        private int maxSize = 50;
+
+        // Mean time callers waited for a connection over one interval, above it the pool grows
+        private Duration targetWait = Duration.ofMillis(2);
+
+        private Duration interval = Duration.ofSeconds(5);
+
+        private int step = 5;
+
+        // Consecutive intervals without waiting before the pool gives a step back
+        private int shrinkAfter = 6;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vedha.config;
+
+import com.vedha.datasource.ReadWriteRoutingDataSource;
+import com.vedha.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Only active once a replica is configured, otherwise Boot's single pooled datasource is used as before
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "employee.datasource.replicas[0]", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, DataSourceRoutingProperties routingProperties, Environment environment,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindPoolSettings(primary, "primary", environment);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+
+            HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl()).username(replica.getUsername()).password(replica.getPassword())
+                    .build();
+            bindPoolSettings(dataSource, "replica-" + replicas.size(), environment);
+            // Boot only instruments the pool it can unwrap from the bean (the primary), replicas get the same hikaricp.* meters here
+            meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(dataSource);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, new ReplicaRoutingDataSource(replicas, primary,
+                routingProperties.getStrategy(), routingProperties.getReplicaRetryInterval()));
+    }
+
+    // Every pool shares the spring.datasource.hikari settings, the pool name tells them apart in logs and metrics
+    private static void bindPoolSettings(HikariDataSource dataSource, String poolName, Environment environment) {
+
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+    }
+}
@@ -0,0 +1,77 @@
+package com.vedha.config;
+
+import com.vedha.metrics.RepositoryMethodAspect;
+import com.vedha.metrics.SlowQueryLogListener;
+import com.vedha.metrics.SqlMetricsListener;
+import com.vedha.metrics.SqlRequestMetricsFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Backs @Timed on the service layer
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlMetricsListener sqlMetricsListener(MeterRegistry meterRegistry) {
+
+        return new SqlMetricsListener(meterRegistry);
+    }
+
+    // Replaces spring.jpa.show-sql: only slow statements and a sample of the rest are logged
+    @Bean
+    public SlowQueryLogListener slowQueryLogListener(@Value("${employee.sql-log.slow-threshold:200ms}") Duration slowThreshold,
+                                                     @Value("${employee.sql-log.sample-rate:0.001}") double sampleRate) {
+
+        return new SlowQueryLogListener(slowThreshold, sampleRate);
+    }
+
+    @Bean
+    public RepositoryMethodAspect repositoryMethodAspect() {
+
+        return new RepositoryMethodAspect();
+    }
+
+    // Wraps the pool in a datasource-proxy so every statement passes through the QueryExecutionListener beans
+    @Bean
+    public static BeanPostProcessor sqlListenerDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> queryExecutionListeners) {
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) return bean;
+                ProxyDataSourceBuilder proxyDataSourceBuilder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                queryExecutionListeners.orderedStream().forEach(proxyDataSourceBuilder::listener);
+                return proxyDataSourceBuilder.build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestMetricsFilter> sqlRequestMetricsFilter(MeterRegistry meterRegistry) {
+
+        FilterRegistrationBean<SqlRequestMetricsFilter> registrationBean = new FilterRegistrationBean<>(new SqlRequestMetricsFilter(meterRegistry));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registrationBean;
+    }
+}
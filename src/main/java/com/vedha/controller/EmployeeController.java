@@ -1,21 +1,48 @@
 package com.vedha.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeIngestionStatus;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeView;
+import com.vedha.dto.EmployeeWindow;
+import com.vedha.dto.VersionedEmployee;
 import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeConflictException;
+import com.vedha.service.EmployeeIngestionService;
 import com.vedha.service.EmployeeService;
+import com.vedha.utill.EmployeeETag;
+import com.vedha.utill.EmployeeExportWriter;
+import com.vedha.utill.EmployeeMediaType;
+import com.vedha.utill.EmployeeProjection;
+import com.vedha.utill.ExportFormat;
+import com.vedha.utill.PageCount;
 import com.vedha.utill.SortField;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/employee")
@@ -25,6 +52,20 @@ public class EmployeeController {
 
     private final EmployeeService employeeService;
 
+    private final EmployeeIngestionService employeeIngestionService;
+
+    private final ObjectMapper objectMapper;
+
+    // Clients may keep a response for max-age, after that they revalidate with If-None-Match; Vary: Accept keeps the JSON, Smile and CBOR copies apart
+    @Value("${employee.http.max-age:0s}")
+    private Duration maxAge;
+
+    @Value("${employee.multi-get.max-ids:1000}")
+    private int multiGetMaxIds;
+
+    @Value("${employee.name-index.max-limit:100}")
+    private int nameSearchMaxLimit;
+
     @Operation(summary = "Create Employee", description = "Creates New Employees")
     @ApiResponse(responseCode = "201", description = "HTTP Status 201 Created")
     @PostMapping(value = "/create", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -33,33 +74,117 @@ public class EmployeeController {
         return new ResponseEntity<>(employeeService.saveEmployee(employee), HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Create Employee Asynchronously", description = "Queues The Employee For A Batched Write, Poll The Returned Request Id For The Outcome")
+    @ApiResponse(responseCode = "202", description = "HTTP Status 202 Accepted")
+    @ApiResponse(responseCode = "429", description = "HTTP Status 429 Too Many Requests, The Queue Is Full")
+    @PostMapping(value = "/createAsync", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeIngestionStatus> createEmployeeAsync(@RequestBody Employee employee) {
+
+        return employeeIngestionService.submitEmployee(employee)
+                .map(status -> ResponseEntity.accepted().header(HttpHeaders.LOCATION, "/api/employee/createStatus?requestId=" + status.getRequestId()).body(status))
+                .orElse(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build());
+    }
+
+    @Operation(summary = "Get Asynchronous Create Status", description = "Get The Outcome Of An Asynchronous Create By Request Id")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/createStatus", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeIngestionStatus> getCreateStatus(@RequestParam("requestId") String requestId) {
+
+        return employeeIngestionService.getIngestionStatus(requestId).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Create Employees In Batch", description = "Creates New Employees From A JSON Array With Per Row Results")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @PostMapping(value = "/createBatch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EmployeeBatchResult>> createEmployeeBatch(@RequestBody List<Employee> employees) {
+
+        return ResponseEntity.ok(employeeService.saveAllEmployee(employees));
+    }
+
+    @Operation(summary = "Create Employees In Batch From NDJSON", description = "Creates New Employees From One JSON Object Per Line With Per Row Results")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @PostMapping(value = "/createBatch", consumes = "application/x-ndjson", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EmployeeBatchResult>> createEmployeeBatchNdjson(InputStream inputStream) throws IOException {
+
+        try (MappingIterator<Employee> iterator = objectMapper.readerFor(Employee.class).readValues(inputStream)) {
+            return ResponseEntity.ok(employeeService.saveAllEmployee(iterator.readAll()));
+        }
+    }
+
     @Operation(summary = "Get All Employees", description = "Get All Employees")
     @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
-    @GetMapping(value = "/getAll", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Employee>> getAllEmployees() {
+    @GetMapping(value = "/getAll", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<?>> getAllEmployees(@RequestParam(value = "projection", defaultValue = "ENTITY") EmployeeProjection projection) {
 
-        return ResponseEntity.ok(employeeService.getAllEmployee());
+        return ResponseEntity.ok(projection == EmployeeProjection.ENTITY ? employeeService.getAllEmployee() : employeeService.getAllEmployee(projection.getType()));
+    }
+
+    @Operation(summary = "Export All Employees", description = "Streams All Employees As NDJSON Or CSV With Constant Memory")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @GetMapping(value = "/export", consumes = MediaType.ALL_VALUE, produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+
+        StreamingResponseBody streamingResponseBody = outputStream -> {
+            EmployeeExportWriter employeeExportWriter = new EmployeeExportWriter(format, objectMapper, outputStream);
+            employeeService.exportAllEmployee(employeeExportWriter);
+            employeeExportWriter.flush();
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(format.getMediaType())).body(streamingResponseBody);
     }
 
     @Operation(summary = "Get Employee By Id", description = "Get Employee By Id")
     @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
-    @GetMapping(value = "/getById", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Employee> getEmployeeById(@RequestParam("employeeId") Long employeeId) {
+    @GetMapping(value = "/getById", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<Employee> getEmployeeById(@RequestParam("employeeId") Long employeeId, WebRequest webRequest) {
+
+        // The encoding is fixed here rather than by the message converters so the ETag can name it
+        String[] accept = webRequest.getHeaderValues(HttpHeaders.ACCEPT);
+        MediaType mediaType = EmployeeMediaType.negotiate(accept == null ? List.of() : MediaType.parseMediaTypes(List.of(accept)));
+
+        // A conditional poll is answered from the version column alone, the row is only loaded when it changed
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = employeeService.getEmployeeVersion(employeeId);
+            if (version.isEmpty()) return ResponseEntity.notFound().build();
+            String eTag = EmployeeETag.of(employeeId, version.get(), mediaType);
+            if (webRequest.checkNotModified(eTag)) return notModified(eTag);
+        }
 
-        return employeeService.getEmployeeById(employeeId).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return employeeService.getEmployeeById(employeeId)
+                .map(employee -> ResponseEntity.ok().contentType(mediaType).eTag(EmployeeETag.of(employee, mediaType)).cacheControl(cacheControl()).varyBy(HttpHeaders.ACCEPT).body(employee))
+                .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "update Employee By Id", description = "update Employee By Id")
+    @Operation(summary = "Get Employees By Ids", description = "Get Up To employee.multi-get.max-ids Employees In One Call, Keyed By Id With The Missing Ids Listed")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 Ok")
+    @ApiResponse(responseCode = "400", description = "HTTP Status 400 Bad Request, Too Many Ids")
+    @PostMapping(value = "/getByIds", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<EmployeeMultiGet> getEmployeesByIds(@RequestBody List<Long> employeeIds) {
+
+        if (employeeIds.size() > multiGetMaxIds) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(employeeService.getEmployeeByIds(employeeIds));
+    }
+
+    @Operation(summary = "update Employee By Id", description = "update Employee By Id, With If-Match Only When The Employee Is Still At That Version")
     @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @ApiResponse(responseCode = "412", description = "HTTP Status 412 Precondition Failed, The Employee Changed Since The If-Match ETag")
     @PutMapping(value = "/updateById", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Employee> updateEmployeeById(@RequestParam("employeeId") Long employeeId, @RequestBody Employee updatedEmployee) {
+    public ResponseEntity<Employee> updateEmployeeById(@RequestParam("employeeId") Long employeeId,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                       @RequestBody Employee updatedEmployee) {
+
+        return updateById(employeeId, ifMatch, updatedEmployee);
+    }
+
+    @Operation(summary = "Patch Employee By Id", description = "Updates Only The Fields Present In The Body, With If-Match Only When The Employee Is Still At That Version")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @ApiResponse(responseCode = "412", description = "HTTP Status 412 Precondition Failed, The Employee Changed Since The If-Match ETag")
+    @PatchMapping(value = "/patchById", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Employee> patchEmployeeById(@RequestParam("employeeId") Long employeeId,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                      @RequestBody Employee patchedEmployee) {
 
-        return employeeService.getEmployeeById(employeeId).map(employee -> {
-            employee.setName(updatedEmployee.getName());
-            employee.setAge(updatedEmployee.getAge());
-            employee.setEmail(updatedEmployee.getEmail());
-            return ResponseEntity.ok(employeeService.updateEmployee(employee));
-        }).orElse(ResponseEntity.notFound().build());
+        return updateById(employeeId, ifMatch, patchedEmployee);
     }
 
     @Operation(summary = "Delete Employee By Id", description = "Delete Employee By Id")
@@ -70,14 +195,118 @@ public class EmployeeController {
         return ResponseEntity.ok(Map.of("deleteCount", employeeService.deleteEmployeeById(employeeId)));
     }
 
-    @Operation(summary = "Get All Employees Paginated", description = "Get All Employees Paginated")
+    @Operation(summary = "Delete Employees By Ids", description = "Deletes Employees By Id List With Chunked Set Based Deletes")
     @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
-    @GetMapping(value = "/getAllPaginated", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<Employee>> getAllEmployeePaginated(@RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
-                                                                  @RequestParam(value = "pageSize", defaultValue = "2") int pageSize,
-                                                                  @RequestParam(value = "sortDirection", defaultValue = "ASC") Sort.Direction sortDirection,
-                                                                  @RequestParam(value = "sortField", defaultValue = "ID") SortField sortField) {
+    @DeleteMapping(value = "/deleteBatch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> deleteEmployeeBatch(@RequestBody List<Long> employeeIds) {
+
+        return ResponseEntity.ok(Map.of("deleteCount", employeeService.deleteEmployeeByIds(employeeIds)));
+    }
+
+    @Operation(summary = "Delete Employees By Age Range", description = "Deletes Employees With Age Between minAge And maxAge Inclusive")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @DeleteMapping(value = "/deleteByAgeRange", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> deleteEmployeeByAgeRange(@RequestParam("minAge") int minAge, @RequestParam("maxAge") int maxAge) {
+
+        return ResponseEntity.ok(Map.of("deleteCount", employeeService.deleteEmployeeByAgeRange(minAge, maxAge)));
+    }
+
+    @Operation(summary = "Get All Employees Paginated", description = "Get All Employees Paginated, count=APPROXIMATE Uses An Estimated Total And count=NONE Returns A Slice Without Total")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @GetMapping(value = "/getAllPaginated", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<Slice<?>> getAllEmployeePaginated(@RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
+                                                            @RequestParam(value = "pageSize", defaultValue = "2") int pageSize,
+                                                            @RequestParam(value = "sortDirection", defaultValue = "ASC") Sort.Direction sortDirection,
+                                                            @RequestParam(value = "sortField", defaultValue = "ID") SortField sortField,
+                                                            @RequestParam(value = "projection", defaultValue = "ENTITY") EmployeeProjection projection,
+                                                            @RequestParam(value = "count", defaultValue = "EXACT") PageCount count,
+                                                            WebRequest webRequest) {
+
+        // A conditional request is fingerprinted by (id, version) before any content is loaded, so a concurrent write can only make the ETag older, never newer;
+        // otherwise the tag is taken from the ids and versions of the rows just read, with no extra page query or count
+        String eTag = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                ? employeeService.getAllEmployeePaginatedETag(pageNumber, pageSize, sortDirection, sortField, projection, count) : null;
+        if (eTag != null && webRequest.checkNotModified(eTag)) return notModified(eTag);
+
+        Slice<? extends VersionedEmployee> page;
+        if (projection == EmployeeProjection.ENTITY && count == PageCount.EXACT) {
+            page = employeeService.getAllEmployeePaginated(pageNumber, pageSize, sortDirection, sortField);
+        } else if (count == PageCount.EXACT) {
+            page = employeeService.getAllEmployeePaginated(pageNumber, pageSize, sortDirection, sortField, projection.getType());
+        } else {
+            page = employeeService.getAllEmployeePaginated(pageNumber, pageSize, sortDirection, sortField, projection.getType(), count);
+        }
+        return ResponseEntity.ok().eTag(eTag != null ? eTag : EmployeeETag.ofPage(page, projection)).cacheControl(cacheControl()).varyBy(HttpHeaders.ACCEPT).body(page);
+    }
+
+    @Operation(summary = "Search Employees", description = "Search Employees By Age Range, Name Prefix And Email Domain With Sorting And Pagination")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @GetMapping(value = "/search", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<Page<Employee>> searchEmployees(@RequestParam(value = "minAge", required = false) Integer minAge,
+                                                          @RequestParam(value = "maxAge", required = false) Integer maxAge,
+                                                          @RequestParam(value = "namePrefix", required = false) String namePrefix,
+                                                          @RequestParam(value = "emailDomain", required = false) String emailDomain,
+                                                          @RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
+                                                          @RequestParam(value = "pageSize", defaultValue = "2") int pageSize,
+                                                          @RequestParam(value = "sortDirection", defaultValue = "ASC") Sort.Direction sortDirection,
+                                                          @RequestParam(value = "sortField", defaultValue = "ID") SortField sortField) {
+
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().minAge(minAge).maxAge(maxAge).namePrefix(namePrefix).emailDomain(emailDomain).build();
+        return ResponseEntity.ok(employeeService.searchEmployee(criteria, pageNumber, pageSize, sortDirection, sortField));
+    }
+
+    @Operation(summary = "Search Employees By Name Or Email", description = "Prefix And Fuzzy Search Over Name And Email From The In Memory Index")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @ApiResponse(responseCode = "400", description = "HTTP Status 400 Bad Request, Limit Above employee.name-index.max-limit")
+    @GetMapping(value = "/searchByName", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<EmployeeView>> searchEmployeesByName(@RequestParam("query") String query,
+                                                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        if (limit > nameSearchMaxLimit) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(employeeService.searchEmployeeByName(query, limit));
+    }
+
+    @Operation(summary = "Get All Employees Keyset Paginated", description = "Get All Employees Using A Continuation Token Instead Of Page Number, Without Total Count")
+    @ApiResponse(responseCode = "200", description = "HTTP Status 200 OK")
+    @GetMapping(value = "/getAllKeysetPaginated", consumes = MediaType.ALL_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, EmployeeMediaType.APPLICATION_SMILE_VALUE, EmployeeMediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<EmployeeWindow> getAllEmployeeKeysetPaginated(@RequestParam(value = "continuationToken", required = false) String continuationToken,
+                                                                        @RequestParam(value = "pageSize", defaultValue = "2") int pageSize,
+                                                                        @RequestParam(value = "sortDirection", defaultValue = "ASC") Sort.Direction sortDirection,
+                                                                        @RequestParam(value = "sortField", defaultValue = "ID") SortField sortField) {
+
+        return ResponseEntity.ok(employeeService.getAllEmployeeKeysetPaginated(continuationToken, pageSize, sortDirection, sortField));
+    }
+
+    // Without If-Match (or with "*") the update is unconditional, otherwise it only applies on top of the version in the ETag
+    private ResponseEntity<Employee> updateById(Long employeeId, String ifMatch, Employee employee) {
+
+        Optional<Employee> updatedEmployee;
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            updatedEmployee = employeeService.updateEmployeeById(employeeId, employee);
+        } else {
+            Optional<Long> expectedVersion = EmployeeETag.versionOf(ifMatch, employeeId);
+            if (expectedVersion.isEmpty()) return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            updatedEmployee = employeeService.updateEmployeeById(employeeId, employee, expectedVersion.get());
+        }
+
+        return updatedEmployee.map(updated -> ResponseEntity.ok().eTag(EmployeeETag.of(updated)).body(updated)).orElse(ResponseEntity.notFound().build());
+    }
+
+    // The current ETag comes back with the 412 so the client can re-read and retry
+    @ExceptionHandler(EmployeeConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleEmployeeConflict(EmployeeConflictException e) {
+
+        if (e.getCurrentVersion() == null) return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of("message", e.getMessage()));
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(EmployeeETag.of(e.getEmployeeId(), e.getCurrentVersion())).body(Map.of("message", e.getMessage()));
+    }
+
+    private CacheControl cacheControl() {
+
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
 
-        return ResponseEntity.ok(employeeService.getAllEmployeePaginated(pageNumber, pageSize, sortDirection, sortField));
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl()).varyBy(HttpHeaders.ACCEPT).build();
     }
 }
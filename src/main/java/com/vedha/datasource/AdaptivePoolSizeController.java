@@ -0,0 +1,160 @@
+package com.vedha.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Resizes Hikari pools from the time callers spend waiting for a connection: while the mean acquisition wait over an interval
+// is above the target the pool grows a step, after shrinkAfter quiet intervals it gives a step back, always within [minSize, maxSize].
+// Waiting also happens when the database itself is saturated, and more connections then only add contention: a step that does
+// not raise the acquisitions per interval is taken back and the size held there for shrinkAfter intervals before probing again.
+// The wait comes from Hikari's own hikaricp.connections.acquire timer, so a pool without metrics is left alone.
+// Hikari applies a lower maximum lazily: idle connections above it retire after idle-timeout, busy ones are never cut.
+@Slf4j
+public class AdaptivePoolSizeController implements Closeable {
+
+    static final String ACQUIRE_METER = "hikaricp.connections.acquire";
+
+    private static final String RESIZES_METER = "employee.datasource.pool.resizes";
+
+    // Throughput gain a growth step has to show to be kept
+    private static final double MIN_GAIN = 0.05;
+
+    private final List<PoolState> pools;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final long targetWaitNanos;
+
+    private final int step;
+
+    private final int shrinkAfter;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("employee-pool-sizer").daemon().factory());
+
+    private static final class PoolState {
+
+        private final HikariDataSource pool;
+
+        private long acquisitions;
+
+        private double waitedNanos;
+
+        private int quietIntervals;
+
+        // Acquisitions in the interval before the last growth step, -1 when the last interval did not grow the pool
+        private long acquisitionsBeforeGrowth = -1;
+
+        private int holdIntervals;
+
+        private PoolState(HikariDataSource pool) {
+
+            this.pool = pool;
+        }
+    }
+
+    public AdaptivePoolSizeController(List<HikariDataSource> pools, MeterRegistry meterRegistry, int minSize, int maxSize,
+                                      Duration targetWait, int step, int shrinkAfter) {
+
+        if (minSize < 1 || maxSize < minSize || step < 1) throw new IllegalArgumentException("Pool size bounds must satisfy 1 <= min-size <= max-size and step >= 1");
+        this.pools = pools.stream().map(PoolState::new).toList();
+        this.meterRegistry = meterRegistry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetWaitNanos = targetWait.toNanos();
+        this.step = step;
+        this.shrinkAfter = shrinkAfter;
+    }
+
+    public void start(Duration interval) {
+
+        scheduler.scheduleWithFixedDelay(this::adjust, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+
+        scheduler.shutdownNow();
+    }
+
+    // One control step for every pool, a failing pool does not stop the others
+    void adjust() {
+
+        for (PoolState state : pools) {
+            try {
+                adjust(state);
+            } catch (RuntimeException e) {
+                log.warn("Pool {} not resized", state.pool.getPoolName(), e);
+            }
+        }
+    }
+
+    private void adjust(PoolState state) {
+
+        // Hikari starts a pool, and names it when no name was set, on the first connection
+        HikariPoolMXBean poolMXBean = state.pool.getHikariPoolMXBean();
+        if (poolMXBean == null) return;
+        Timer acquire = meterRegistry.find(ACQUIRE_METER).tag("pool", state.pool.getPoolName()).timer();
+        if (acquire == null) return;
+
+        long acquisitions = acquire.count() - state.acquisitions;
+        double waitedNanos = acquire.totalTime(TimeUnit.NANOSECONDS) - state.waitedNanos;
+        state.acquisitions += acquisitions;
+        state.waitedNanos += waitedNanos;
+
+        // Only successful acquisitions are timed, callers stuck for the whole interval show up as awaiting threads instead
+        boolean waiting = acquisitions > 0
+                ? waitedNanos / acquisitions > targetWaitNanos
+                : poolMXBean.getThreadsAwaitingConnection() > 0;
+
+        int size = state.pool.getHikariConfigMXBean().getMaximumPoolSize();
+        long acquisitionsBeforeGrowth = state.acquisitionsBeforeGrowth;
+        state.acquisitionsBeforeGrowth = -1;
+        if (waiting) {
+            state.quietIntervals = 0;
+            if (acquisitionsBeforeGrowth >= 0 && acquisitions <= acquisitionsBeforeGrowth * (1 + MIN_GAIN)) {
+                state.holdIntervals = shrinkAfter;
+                if (size > minSize) resize(state, Math.max(minSize, size - step));
+            } else if (state.holdIntervals > 0) {
+                state.holdIntervals--;
+            } else if (size < maxSize) {
+                state.acquisitionsBeforeGrowth = acquisitions;
+                resize(state, Math.min(maxSize, size + step));
+            }
+        } else {
+            state.holdIntervals = 0;
+            if (++state.quietIntervals >= shrinkAfter) {
+                state.quietIntervals = 0;
+                if (size > minSize) resize(state, Math.max(minSize, size - step));
+            }
+        }
+    }
+
+    private void resize(PoolState state, int size) {
+
+        HikariConfigMXBean config = state.pool.getHikariConfigMXBean();
+        int previous = config.getMaximumPoolSize();
+        // A minimum-idle above the maximum would be clamped by Hikari anyway, keep the two consistent
+        if (config.getMinimumIdle() > size) config.setMinimumIdle(size);
+        config.setMaximumPoolSize(size);
+        Counter.builder(RESIZES_METER).tag("pool", state.pool.getPoolName()).tag("direction", size > previous ? "grow" : "shrink")
+                .register(meterRegistry).increment();
+        log.info("Pool {} resized from {} to {} connections", state.pool.getPoolName(), previous, size);
+    }
+}
@@ -0,0 +1,39 @@
+package com.vedha.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+// The physical connection is only fetched at the first statement, after the transaction manager has
+// marked it read only, so @Transactional(readOnly = true) work lands on a replica and everything else on the primary
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+
+    private final ReplicaRoutingDataSource replicas;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, ReplicaRoutingDataSource replicas) {
+
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    public List<HikariDataSource> getPools() {
+
+        List<HikariDataSource> pools = new ArrayList<>(replicas.getReplicas());
+        pools.add(0, primary);
+        return pools;
+    }
+
+    @Override
+    public void close() {
+
+        replicas.getReplicas().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
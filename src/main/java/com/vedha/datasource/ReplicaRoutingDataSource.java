@@ -0,0 +1,127 @@
+package com.vedha.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+// Hands out replica connections, a replica that fails to connect is skipped for the retry interval
+// and the primary is used once every replica is unavailable. A replica whose pool is only exhausted
+// is passed over for that call but stays in rotation
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    public enum Strategy {
+
+        ROUND_ROBIN,
+
+        LEAST_LOADED
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+
+    private final List<HikariDataSource> replicas;
+
+    private final DataSource primary;
+
+    private final Strategy strategy;
+
+    private final long retryIntervalMillis;
+
+    // Epoch millis until which a replica is skipped, 0 while it is healthy
+    private final AtomicLongArray downUntil;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<HikariDataSource> replicas, DataSource primary, Strategy strategy, Duration retryInterval) {
+
+        this.replicas = List.copyOf(replicas);
+        this.primary = primary;
+        this.strategy = strategy;
+        this.retryIntervalMillis = retryInterval.toMillis();
+        this.downUntil = new AtomicLongArray(replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    public List<HikariDataSource> getReplicas() { return replicas; }
+
+    private Connection route(ConnectionSource connectionSource) throws SQLException {
+
+        for (int replica : candidates()) {
+
+            long now = System.currentTimeMillis();
+            if (downUntil.get(replica) > now) continue;
+
+            try {
+
+                Connection connection = connectionSource.getConnection(replicas.get(replica));
+                downUntil.set(replica, 0);
+                return connection;
+            } catch (SQLException e) {
+
+                if (!isConnectionFailure(e)) {
+                    log.debug("Replica {} Busy, Trying The Next One: {}", replicas.get(replica).getPoolName(), e.getMessage());
+                    continue;
+                }
+                downUntil.set(replica, now + retryIntervalMillis);
+                log.warn("Replica {} Unavailable, Skipping It For {} ms: {}", replicas.get(replica).getPoolName(), retryIntervalMillis, e.getMessage());
+            }
+        }
+
+        return connectionSource.getConnection(primary);
+    }
+
+    // Hikari's request timeout is an SQLTransientConnectionException, when the pool could not reach the database the driver's
+    // failure is its cause (and its SQLState), a plain pool timeout has neither
+    private static boolean isConnectionFailure(SQLException e) {
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLNonTransientConnectionException) return true;
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null && sqlException.getSQLState().startsWith("08")) return true;
+        }
+        return false;
+    }
+
+    // Round robin order, re-sorted by pool load for LEAST_LOADED so ties still rotate
+    private int[] candidates() {
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        IntStream order = IntStream.range(0, size).map(offset -> (start + offset) % size);
+        if (strategy == Strategy.ROUND_ROBIN) return order.toArray();
+
+        return order.boxed().sorted(Comparator.comparingInt(replica -> load(replicas.get(replica)))).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int load(HikariDataSource replica) {
+
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+}
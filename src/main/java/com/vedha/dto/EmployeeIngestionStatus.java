@@ -0,0 +1,28 @@
+package com.vedha.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "EmployeeIngestionStatus", name = "EmployeeIngestionStatus", description = "Holds The Outcome Of An Asynchronous Employee Create")
+public class EmployeeIngestionStatus {
+
+    public enum Status { QUEUED, CREATED, FAILED }
+
+    @Schema(description = "Id To Poll The Create Status With")
+    private String requestId;
+
+    private Status status;
+
+    private Long id;
+
+    private String message;
+}
@@ -0,0 +1,25 @@
+package com.vedha.dto;
+
+import com.vedha.entity.Employee;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(title = "EmployeeMultiGet", name = "EmployeeMultiGet", description = "Holds The Employees Found For A Multi Get And The Ids That Were Not")
+public class EmployeeMultiGet {
+
+    @Schema(description = "Found Employees Keyed By Id, In Request Order")
+    private Map<Long, Employee> employees;
+
+    @Schema(description = "Requested Ids Without An Employee")
+    private List<Long> missing;
+}
@@ -0,0 +1,25 @@
+package com.vedha.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Every criterion is optional, the ones given are combined with and
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(title = "EmployeeSearchCriteria", name = "EmployeeSearchCriteria", description = "Holds The Optional Filters Of An Employee Search")
+public class EmployeeSearchCriteria {
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String namePrefix;
+
+    @Schema(description = "Domain Part Of The Email, Without The @", example = "gmail.com")
+    private String emailDomain;
+}
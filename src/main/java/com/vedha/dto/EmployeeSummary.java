@@ -0,0 +1,19 @@
+package com.vedha.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+// Read only projection, selected straight into the constructor so no entity is hydrated
+@Value
+@Schema(title = "EmployeeSummary", name = "EmployeeSummary", description = "Holds Employee Id And Name Only")
+public class EmployeeSummary implements VersionedEmployee {
+
+    Long id;
+
+    String name;
+
+    // Selected for the page ETag only, never part of the body
+    @JsonIgnore
+    Long version;
+}
@@ -0,0 +1,12 @@
+package com.vedha.dto;
+
+import lombok.Value;
+
+// Read only projection used to fingerprint a page without loading its rows
+@Value
+public class EmployeeVersion implements VersionedEmployee {
+
+    Long id;
+
+    Long version;
+}
@@ -0,0 +1,23 @@
+package com.vedha.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+// Read only projection of the full row, selected straight into the constructor so no entity is hydrated
+@Value
+@Schema(title = "EmployeeView", name = "EmployeeView", description = "Holds The Full Employee Row As A Read Only View")
+public class EmployeeView implements VersionedEmployee {
+
+    Long id;
+
+    String name;
+
+    Integer age;
+
+    String email;
+
+    // Selected for the page ETag only, never part of the body
+    @JsonIgnore
+    Long version;
+}
@@ -0,0 +1,27 @@
+package com.vedha.dto;
+
+import com.vedha.entity.Employee;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(title = "EmployeeWindow", name = "EmployeeWindow", description = "Holds One Keyset Page Of Employees Without Total Count")
+public class EmployeeWindow {
+
+    private List<Employee> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    @Schema(description = "Pass As continuationToken To Fetch The Next Window, Null On The Last Window")
+    private String continuationToken;
+}
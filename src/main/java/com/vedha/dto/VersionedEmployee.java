@@ -0,0 +1,9 @@
+package com.vedha.dto;
+
+// Anything a page is made of carries (id, version), so a page ETag can be taken from the rows just read
+public interface VersionedEmployee {
+
+    Long getId();
+
+    Long getVersion();
+}
@@ -1,20 +1,38 @@
 package com.vedha.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.vedha.dto.VersionedEmployee;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "employees")
+// Second level cache, bulk JPQL updates and deletes evict the whole region, entity writes update it in place
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+@Table(name = "employees", indexes = {
+        @Index(name = "uk_employees_email", columnList = "email", unique = true),
+        @Index(name = "idx_employees_email_name", columnList = "email, name"),
+        // Backing indexes for the search predicates: name prefix, age range and email domain
+        @Index(name = "idx_employees_name_age", columnList = "name, age"),
+        @Index(name = "idx_employees_age_id", columnList = "age, id"),
+        @Index(name = "idx_employees_email_domain_name", columnList = "email_domain, name")
+})
 @Schema(title = "Employee", name = "Employee", description = "Holds Employee In Table")
-public class Employee {
+public class Employee implements VersionedEmployee {
+
+    public static final String CACHE_REGION = "employee-entity";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,4 +47,18 @@ public class Employee {
 
     @Column(name = "email", nullable = false)
     private String email;
+
+    // Bumped by every update, existing rows start at 0; also the source of the ETag
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    // Maintained by the database from email, so every write path (JPA, JDBC batch, bulk update) keeps it in step
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @Column(name = "email_domain", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(substring(email, locate('@', email) + 1)))")
+    private String emailDomain;
 }
@@ -0,0 +1,19 @@
+package com.vedha.exception;
+
+import lombok.Getter;
+
+// The employee changed since the version the caller worked from; currentVersion is null when it was deleted
+@Getter
+public class EmployeeConflictException extends EmployeeException {
+
+    private final Long employeeId;
+
+    private final Long currentVersion;
+
+    public EmployeeConflictException(Long employeeId, Long currentVersion, Throwable cause) {
+
+        super("Employee Modified Concurrently: " + employeeId, cause);
+        this.employeeId = employeeId;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,30 @@
+package com.vedha.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// Remembers which EmployeeRepository method is running on this thread so SQL logs can name their caller
+@Aspect
+public class RepositoryMethodAspect {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    public static String currentRepositoryMethod() {
+
+        return CURRENT.get();
+    }
+
+    @Around("this(com.vedha.repository.EmployeeRepository)")
+    public Object trackRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        String previous = CURRENT.get();
+        CURRENT.set("EmployeeRepository." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vedha.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// Logs statements slower than the threshold, plus a random sample of the rest, through the async "com.vedha.sql" logger
+@Slf4j(topic = "com.vedha.sql")
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private static final int MAX_LOGGED_BATCH_ENTRIES = 5;
+
+    private final long slowThresholdMillis;
+
+    private final double sampleRate;
+
+    public SlowQueryLogListener(Duration slowThreshold, double sampleRate) {
+
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        if (execInfo.getElapsedTime() >= slowThresholdMillis) {
+            if (log.isWarnEnabled()) log.warn("slow_sql {}", describe(execInfo, queryInfoList));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            if (log.isInfoEnabled()) log.info("sampled_sql {}", describe(execInfo, queryInfoList));
+        }
+    }
+
+    private String describe(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        String repositoryMethod = RepositoryMethodAspect.currentRepositoryMethod();
+        String query = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        List<List<ParameterSetOperation>> parameters = queryInfoList.isEmpty() ? List.of() : queryInfoList.get(0).getParametersList();
+        String params = parameters.stream().limit(MAX_LOGGED_BATCH_ENTRIES)
+                .map(operations -> operations.stream().map(SlowQueryLogListener::value).collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+
+        return "elapsed_ms=" + execInfo.getElapsedTime()
+                + " repository=" + (repositoryMethod != null ? repositoryMethod : "none")
+                + " success=" + execInfo.isSuccess()
+                + " batch_size=" + (execInfo.isBatch() ? execInfo.getBatchSize() : 0)
+                + " query=\"" + query + "\""
+                + " params=" + params + (parameters.size() > MAX_LOGGED_BATCH_ENTRIES ? " ...(" + parameters.size() + ")" : "");
+    }
+
+    // setNull(index, sqlType) carries the java.sql.Types code as its second argument, not a value
+    private static String value(ParameterSetOperation operation) {
+
+        return ParameterSetOperation.isSetNullParameterOperation(operation) ? "null" : String.valueOf(operation.getArgs()[1]);
+    }
+}
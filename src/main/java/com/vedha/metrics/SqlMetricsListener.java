@@ -0,0 +1,48 @@
+package com.vedha.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Times every JDBC execution by statement type and feeds the per request tally
+@RequiredArgsConstructor
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    // ExecutionInfo.getElapsedTime() is in whole milliseconds, most statements finish well below that
+    private static final String START_NANOS = SqlMetricsListener.class.getName() + ".startNanos";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        QueryType queryType = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = startNanos != null ? System.nanoTime() - startNanos : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+
+        Timer.builder("jdbc.statements")
+                .description("JDBC statement executions, one per round trip (a batch counts once)")
+                .tag("type", queryType.name().toLowerCase())
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("success", String.valueOf(execInfo.isSuccess()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        SqlRequestContext.record(1, elapsedNanos);
+    }
+}
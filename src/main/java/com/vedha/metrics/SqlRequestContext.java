@@ -0,0 +1,44 @@
+package com.vedha.metrics;
+
+// Per thread SQL tally for the request being served, started and drained by SqlRequestMetricsFilter
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+
+    private long elapsedNanos;
+
+    private SqlRequestContext() {
+    }
+
+    public static void start() {
+
+        CURRENT.set(new SqlRequestContext());
+    }
+
+    public static SqlRequestContext stop() {
+
+        SqlRequestContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    static void record(int statementCount, long elapsedNanos) {
+
+        SqlRequestContext context = CURRENT.get();
+        if (context == null) return;
+        context.statements += statementCount;
+        context.elapsedNanos += elapsedNanos;
+    }
+
+    public long getStatements() {
+
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+
+        return elapsedNanos;
+    }
+}
@@ -1,36 +1,117 @@
 package com.vedha.repository;
 
 import com.vedha.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, PagingAndSortingRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, PagingAndSortingRepository<Employee, Long>, JpaSpecificationExecutor<Employee>, EmployeeRepositoryCustom {
 
-    @Transactional // @Transactional required for custom query methods
+    // Query cache region of the email lookups below, any write to employees invalidates it
+    String LOOKUP_CACHE_REGION = "employee-lookup";
+
+    // Cache filling reads: the Spring "employee" cache (getEmployeeById, getEmployeeByIds) is loaded here,
+    // so they run read-write on the primary, a replica behind a just committed write would cache the old row
+    @Override
+    @Transactional
+    Optional<Employee> findById(Long employeeId);
+
+    @Override
+    @Transactional
+    List<Employee> findAllById(Iterable<Long> employeeIds);
+
+    // Lookups may run on a replica, their query cache entries expire after employee-lookup's TTL (shortened with the replicas profile)
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
     Optional<Employee> findEmployeeByEmail(String employeeEmail);
 
     @Transactional
     Long deleteEmployeeById(Long employeeId);
 
     @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> employeeIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.id >= :fromId and e.id < :toId and e.age between :minAge and :maxAge")
+    int deleteByIdRangeAndAgeBetween(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
+
+    @Transactional(readOnly = true)
+    @Query("select min(e.id) from Employee e where e.id >= :fromId")
+    Long findFirstIdFrom(@Param("fromId") Long fromId);
+
+    // Primary key lookup of the version alone, lets conditional reads skip loading the row
+    @Transactional(readOnly = true)
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long employeeId);
+
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
     @Query("select e from Employee e where e.email = ?1 and e.name = ?2")
     Optional<Employee> findByJPQLIndexParam(String email, String name);
 
-    @Transactional
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
     @Query("select e from Employee e where e.email = :email and e.name = :name")
     Optional<Employee> findByJPQLNamedParam(@Param("email") String email, @Param("name") String name);
 
-    @Transactional
+    @Transactional(readOnly = true)
+    // Hibernate cannot tell which tables native SQL reads, the synchronized space ties the cached result to writes on employees
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION),
+            @QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "employees")})
     @Query(value = "select * from employees e where e.email = ?1 and e.name = ?2", nativeQuery = true)
     Optional<Employee> findByJPQLNativeIndexParam(String email, String name);
 
-    @Transactional
+    @Transactional(readOnly = true)
+    // Hibernate cannot tell which tables native SQL reads, the synchronized space ties the cached result to writes on employees
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION),
+            @QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "employees")})
     @Query(value = "select * from employees e where e.email = :email and e.name = :name", nativeQuery = true)
     Optional<Employee> findByJPQLNativeNamedParam(@Param("email") String email, @Param("name") String name);
 
+    @Transactional(readOnly = true)
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Caller must hold a transaction open while consuming the stream, rows arrive in fetches of 1000 (employee.export.fetch-size default)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.email from Employee e")
+    Stream<String> streamAllEmails();
+
+    // Dynamic projections, DTO types are selected with a constructor expression and never enter the persistence context
+    @Transactional(readOnly = true)
+    <T> List<T> findAllBy(Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    // Same page without the count query, pageSize + 1 rows tell whether a next page exists
+    @Transactional(readOnly = true)
+    <T> Slice<T> findSliceBy(Pageable pageable, Class<T> type);
+
+    // Keyset (seek) scrolling, no offset and no count query
+    @Transactional(readOnly = true)
+    Window<Employee> findAllBy(ScrollPosition scrollPosition, Sort sort, Limit limit);
+
 }
@@ -0,0 +1,29 @@
+package com.vedha.repository;
+
+import com.vedha.entity.Employee;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface EmployeeRepositoryCustom {
+
+    // Streams every employee ordered by id through a forward only cursor, never holding the full table in memory
+    void streamAllEmployee(Consumer<Employee> employeeConsumer);
+
+    // Inserts new employees with JDBC batches and sets the generated ids on the given instances
+    List<Employee> insertAllEmployee(List<Employee> employees);
+
+    // Rows already in the second level cache come from it, only the remaining ids go into one IN query; unknown ids are left out
+    List<Employee> findAllByIdCached(Collection<Long> employeeIds);
+
+    // Single UPDATE statement, null arguments keep the current column value; only this row leaves the second level cache
+    int updateEmployeeById(Long employeeId, String name, Integer age, String email);
+
+    // Same update as a compare and set on the version the caller last read (If-Match), 0 rows when the row is gone or was changed since
+    int updateEmployeeByIdAndVersion(Long employeeId, Long version, String name, Integer age, String email);
+
+    // Loads the row, applies the modification and writes it back in one transaction, locking as set by employee.update.locking
+    Optional<Employee> modifyEmployee(Long employeeId, Consumer<Employee> modification);
+}
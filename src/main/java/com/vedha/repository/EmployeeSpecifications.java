@@ -0,0 +1,61 @@
+package com.vedha.repository;
+
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+// Every predicate compares a bare indexed column, no functions or leading wildcards, so each one can drive an index range scan
+public final class EmployeeSpecifications {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> matching(EmployeeSearchCriteria criteria) {
+
+        return Specification.where(ageAtLeast(criteria.getMinAge()))
+                .and(ageAtMost(criteria.getMaxAge()))
+                .and(nameStartsWith(criteria.getNamePrefix()))
+                .and(emailDomain(criteria.getEmailDomain()));
+    }
+
+    public static Specification<Employee> ageAtLeast(Integer minAge) {
+
+        return minAge == null ? null : (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("age"), minAge);
+    }
+
+    public static Specification<Employee> ageAtMost(Integer maxAge) {
+
+        return maxAge == null ? null : (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("age"), maxAge);
+    }
+
+    // name like 'prefix%', wildcards typed by the caller are matched literally
+    public static Specification<Employee> nameStartsWith(String namePrefix) {
+
+        if (!StringUtils.hasText(namePrefix)) return null;
+        String pattern = escapeLike(namePrefix) + "%";
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("name"), pattern, LIKE_ESCAPE);
+    }
+
+    // Equality on the generated email_domain column instead of email like '%@domain'
+    public static Specification<Employee> emailDomain(String emailDomain) {
+
+        if (!StringUtils.hasText(emailDomain)) return null;
+        String domain = StringUtils.trimLeadingCharacter(emailDomain.trim(), '@').toLowerCase(Locale.ROOT);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("emailDomain"), domain);
+    }
+
+    private static String escapeLike(String value) {
+
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') escaped.append(LIKE_ESCAPE);
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
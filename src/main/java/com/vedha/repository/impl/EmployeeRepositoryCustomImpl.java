@@ -0,0 +1,184 @@
+package com.vedha.repository.impl;
+
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.repository.EmployeeRepositoryCustom;
+import com.vedha.utill.UpdateLocking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+@RequiredArgsConstructor
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String INSERT_EMPLOYEE = "insert into employees (name, age, email) values (?, ?, ?)";
+
+    private static final String UPDATE_EMPLOYEE = "update employees set name = coalesce(?, name), age = coalesce(?, age), email = coalesce(?, email), version = version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${employee.export.clear-interval:1000}")
+    private int clearInterval;
+
+    @Value("${employee.batch.insert-size:500}")
+    private int insertBatchSize;
+
+    @Value("${employee.update.locking:optimistic}")
+    private UpdateLocking updateLocking;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployee(Consumer<Employee> employeeConsumer) {
+
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<Employee> results = session.createSelectionQuery("from Employee e order by e.id", Employee.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            int count = 0;
+            while (results.next()) {
+                employeeConsumer.accept(results.get());
+                // Detach streamed rows so the persistence context stays bounded
+                if (++count % clearInterval == 0) session.clear();
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Employee> insertAllEmployee(List<Employee> employees) {
+
+        // IDENTITY ids stop Hibernate from batching, so rows go through plain JDBC batches (multi-row inserts with rewriteBatchedStatements)
+        return jdbcTemplate.execute((ConnectionCallback<List<Employee>>) connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_EMPLOYEE, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < employees.size(); from += insertBatchSize) {
+                    List<Employee> chunk = employees.subList(from, Math.min(from + insertBatchSize, employees.size()));
+                    for (Employee employee : chunk) {
+                        preparedStatement.setString(1, employee.getName());
+                        preparedStatement.setInt(2, employee.getAge());
+                        preparedStatement.setString(3, employee.getEmail());
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                    try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                        for (Employee employee : chunk) {
+                            if (generatedKeys.next()) employee.setId(generatedKeys.getLong(1));
+                        }
+                    }
+                }
+            }
+            evictLookupsAfterCommit();
+            return employees;
+        });
+    }
+
+    // Plain JDBC writes are invisible to Hibernate's query cache, so a cached "no such email" would outlive these rows
+    private void evictLookupsAfterCommit() {
+
+        evictAfterCommit(cache -> cache.evictQueryRegion(EmployeeRepository.LOOKUP_CACHE_REGION));
+    }
+
+    private void evictAfterCommit(Consumer<org.hibernate.Cache> eviction) {
+
+        org.hibernate.Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(org.hibernate.Cache.class);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.accept(cache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+
+                eviction.accept(cache);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public int updateEmployeeById(Long employeeId, String name, Integer age, String email) {
+
+        return updateEmployee(employeeId, () -> jdbcTemplate.update(UPDATE_EMPLOYEE, name, age, email, employeeId));
+    }
+
+    @Override
+    @Transactional
+    public int updateEmployeeByIdAndVersion(Long employeeId, Long version, String name, Integer age, String email) {
+
+        return updateEmployee(employeeId, () -> jdbcTemplate.update(UPDATE_EMPLOYEE + " and version = ?", name, age, email, employeeId, version));
+    }
+
+    // A JPQL bulk UPDATE evicts the whole employee region, a plain statement leaves it alone and only this id is dropped:
+    // before the statement, and again after the commit in case a concurrent read cached the old row in between
+    private int updateEmployee(Long employeeId, IntSupplier update) {
+
+        Session session = entityManager.unwrap(Session.class);
+        session.flush();
+        session.detach(session.getReference(Employee.class, employeeId));
+        session.getSessionFactory().getCache().evictEntityData(Employee.class, employeeId);
+
+        int updateCount = update.getAsInt();
+        if (updateCount > 0) {
+            evictAfterCommit(cache -> {
+                cache.evictEntityData(Employee.class, employeeId);
+                cache.evictQueryRegion(EmployeeRepository.LOOKUP_CACHE_REGION);
+            });
+        }
+        return updateCount;
+    }
+
+    @Override
+    @Transactional
+    public List<Employee> findAllByIdCached(Collection<Long> employeeIds) {
+
+        // findAllById is a plain query and never reads the entity region, multiLoad checks it per id first once a cache mode is set
+        return entityManager.unwrap(Session.class).byMultipleIds(Employee.class)
+                .with(CacheMode.NORMAL)
+                .withBatchSize(Math.max(1, employeeIds.size()))
+                .multiLoad(List.copyOf(employeeIds)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Employee> modifyEmployee(Long employeeId, Consumer<Employee> modification) {
+
+        Employee employee = entityManager.find(Employee.class, employeeId, updateLocking.getLockModeType());
+        if (employee == null) return Optional.empty();
+
+        modification.accept(employee);
+        // Flushed here so a stale version surfaces from this call, the UPDATE carries "where version = ?"
+        entityManager.flush();
+        return Optional.of(employee);
+    }
+}
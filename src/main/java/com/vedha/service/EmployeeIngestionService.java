@@ -0,0 +1,14 @@
+package com.vedha.service;
+
+import com.vedha.dto.EmployeeIngestionStatus;
+import com.vedha.entity.Employee;
+
+import java.util.Optional;
+
+public interface EmployeeIngestionService {
+
+    // Empty when the queue is full
+    Optional<EmployeeIngestionStatus> submitEmployee(Employee employee);
+
+    Optional<EmployeeIngestionStatus> getIngestionStatus(String requestId);
+}
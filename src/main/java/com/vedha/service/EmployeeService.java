@@ -1,26 +1,67 @@
 package com.vedha.service;
 
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeView;
+import com.vedha.dto.EmployeeWindow;
 import com.vedha.entity.Employee;
+import com.vedha.utill.EmployeeProjection;
+import com.vedha.utill.PageCount;
 import com.vedha.utill.SortField;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
 
     Employee saveEmployee(Employee employee);
 
+    List<EmployeeBatchResult> saveAllEmployee(List<Employee> employees);
+
     List<Employee> getAllEmployee();
 
+    <T> List<T> getAllEmployee(Class<T> type);
+
+    void exportAllEmployee(Consumer<Employee> employeeConsumer);
+
     Optional<Employee> getEmployeeById(Long employeeId);
 
+    EmployeeMultiGet getEmployeeByIds(List<Long> employeeIds);
+
+    Optional<Long> getEmployeeVersion(Long employeeId);
+
     Employee updateEmployee(Employee updatedEmployee);
 
+    Optional<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee);
+
+    Optional<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee, Long expectedVersion);
+
+    Optional<Employee> modifyEmployeeById(Long employeeId, Consumer<Employee> modification);
+
     Long deleteEmployeeById(Long employeeId);
 
     void deleteEmployeeByIdNoReturn(Long employeeId);
 
+    long deleteEmployeeByIds(List<Long> employeeIds);
+
+    long deleteEmployeeByAgeRange(int minAge, int maxAge);
+
     Page<Employee> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField);
+
+    <T> Page<T> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, Class<T> type);
+
+    <T> Slice<T> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, Class<T> type, PageCount pageCount);
+
+    String getAllEmployeePaginatedETag(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, EmployeeProjection projection, PageCount pageCount);
+
+    Page<Employee> searchEmployee(EmployeeSearchCriteria criteria, int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField);
+
+    List<EmployeeView> searchEmployeeByName(String query, int limit);
+
+    EmployeeWindow getAllEmployeeKeysetPaginated(String continuationToken, int pageSize, Sort.Direction sortDirection, SortField sortField);
 }
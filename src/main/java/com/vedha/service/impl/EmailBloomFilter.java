@@ -0,0 +1,104 @@
+package com.vedha.service.impl;
+
+import com.vedha.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// Negative lookup cache over existing emails: mightContain == false means the email is definitely new.
+// Deletes are never removed (a stale bit only costs a database lookup), and until warm up finishes every email "might" exist.
+// Rows written by other instances are not seen, so it is off by default and only for a single instance owning the table.
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final boolean enabled;
+
+    private volatile boolean ready;
+
+    public EmailBloomFilter(EmployeeRepository employeeRepository,
+                            @Value("${employee.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${employee.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${employee.email-filter.enabled:false}") boolean enabled) {
+
+        this.employeeRepository = employeeRepository;
+        this.enabled = enabled;
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+
+        if (!enabled) return;
+
+        LongAdder count = new LongAdder();
+        try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                put(email);
+                count.increment();
+            });
+        }
+        ready = true;
+        log.info("Email bloom filter warmed with {} emails", count.sum());
+    }
+
+    public void put(String email) {
+
+        if (email == null) return;
+        long hash = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash + (long) i * ((hash >>> 32) | 1), bitCount);
+            bits.getAndAccumulate((int) (index >>> 6), 1L << index, (current, mask) -> current | mask);
+        }
+    }
+
+    public boolean mightContain(String email) {
+
+        if (!ready || email == null) return true;
+        long hash = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash + (long) i * ((hash >>> 32) | 1), bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    // The email column uses a case insensitive collation, so case variants must share bits
+    private static long hash(String email) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (char c : email.toLowerCase(Locale.ROOT).toCharArray()) {
+            hash ^= c;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,155 @@
+package com.vedha.service.impl;
+
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Request coalescing for single id reads: lookups arriving within the window share one "where id in (...)" instead of one query each.
+// A lone lookup pays up to the window in extra latency, so keep it well below a query round trip.
+// Calls inside a transaction bypass it, the batch runs on another thread and would not see that transaction's writes.
+// Ids already in the second level cache are answered from it, only the rest reach the IN query.
+@Slf4j
+@Component
+public class EmployeeByIdCoalescer {
+
+    private record Pending(Long employeeId, CompletableFuture<Optional<Employee>> employee) {}
+
+    private final EmployeeRepository employeeRepository;
+
+    // Only blocked callers sit here, so it is bounded by the request threads
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    private final int maxBatchSize;
+
+    private final long windowNanos;
+
+    private final Duration timeout;
+
+    private final boolean enabled;
+
+    private final Thread dispatcher = Thread.ofPlatform().name("employee-get-by-id").daemon().unstarted(this::dispatch);
+
+    private volatile boolean running;
+
+    public EmployeeByIdCoalescer(EmployeeRepository employeeRepository,
+                                 @Value("${employee.get-by-id.coalesce.window:1ms}") Duration window,
+                                 @Value("${employee.get-by-id.coalesce.max-batch-size:100}") int maxBatchSize,
+                                 @Value("${employee.get-by-id.coalesce.enabled:true}") boolean enabled,
+                                 @Value("${employee.get-by-id.coalesce.timeout:5s}") Duration timeout) {
+
+        this.employeeRepository = employeeRepository;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.enabled = enabled;
+        this.timeout = timeout;
+    }
+
+    @PostConstruct
+    public void start() {
+
+        if (!enabled) return;
+        running = true;
+        dispatcher.start();
+    }
+
+    // Lookups already queued are still answered, those queued after the dispatcher exited are loaded here
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        if (!running) return;
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(30));
+
+        List<Pending> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) load(leftovers);
+    }
+
+    public Optional<Employee> findById(Long employeeId) {
+
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive()) return employeeRepository.findById(employeeId);
+
+        Pending pending = new Pending(employeeId, new CompletableFuture<>());
+        queue.add(pending);
+        // stop() may have run between the check above and the add, whoever takes the lookup out of the queue answers it
+        if (!running && queue.remove(pending)) return employeeRepository.findById(employeeId);
+        try {
+            return pending.employee().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                queue.remove(pending);
+                throw new QueryTimeoutException("Employee " + employeeId + " Not Loaded Within " + timeout, e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void dispatch() {
+
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                // Collect whatever else arrives within the window, then hand the batch off so the next window starts immediately
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                List<Pending> ready = List.copyOf(batch);
+                Thread.startVirtualThread(() -> load(ready));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void load(List<Pending> batch) {
+
+        try {
+            Set<Long> employeeIds = new HashSet<>();
+            batch.forEach(pending -> employeeIds.add(pending.employeeId()));
+            Map<Long, Employee> employees = employeeRepository.findAllByIdCached(employeeIds).stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity()));
+            batch.forEach(pending -> pending.employee().complete(Optional.ofNullable(employees.get(pending.employeeId()))));
+        } catch (RuntimeException e) {
+            log.warn("Failed To Load {} Coalesced Employees", batch.size(), e);
+            batch.forEach(pending -> pending.employee().completeExceptionally(e));
+        }
+    }
+}
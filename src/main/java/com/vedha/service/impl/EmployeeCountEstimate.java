@@ -0,0 +1,78 @@
+package com.vedha.service.impl;
+
+import com.vedha.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Approximate employee count for pages that show a total without paying a count(*) per request.
+// Creates and deletes through this instance adjust it, and it is recounted once older than the refresh interval,
+// which bounds the drift from rolled back writes and from rows written by other instances.
+@Component
+public class EmployeeCountEstimate {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final long refreshIntervalNanos;
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // Not a monitor: a virtual thread blocked on or holding one across the count(*) would pin its carrier thread
+    private final Lock countLock = new ReentrantLock();
+
+    private volatile boolean counted;
+
+    private volatile long countedAt;
+
+    public EmployeeCountEstimate(EmployeeRepository employeeRepository,
+                                 @Value("${employee.count.refresh-interval:5m}") Duration refreshInterval) {
+
+        this.employeeRepository = employeeRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    public long get() {
+
+        if (!counted) {
+            countLock.lock();
+            try {
+                if (!counted) recount();
+            } finally {
+                countLock.unlock();
+            }
+        } else if (System.nanoTime() - countedAt > refreshIntervalNanos && refreshing.compareAndSet(false, true)) {
+            // One caller recounts, the rest keep serving the current estimate meanwhile
+            try {
+                recount();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return Math.max(0, count.get());
+    }
+
+    public void add(long delta) {
+
+        count.addAndGet(delta);
+    }
+
+    // For writes whose row count is unknown, the next read recounts
+    public void invalidate() {
+
+        counted = false;
+    }
+
+    private void recount() {
+
+        count.set(employeeRepository.count());
+        countedAt = System.nanoTime();
+        counted = true;
+    }
+}
@@ -0,0 +1,206 @@
+package com.vedha.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeIngestionStatus;
+import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeException;
+import com.vedha.service.EmployeeIngestionService;
+import com.vedha.service.EmployeeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write behind creates: requests wait in a bounded queue and one writer thread flushes them through saveAllEmployee
+@Slf4j
+@Service
+public class EmployeeIngestionServiceImpl implements EmployeeIngestionService {
+
+    private record Pending(String requestId, Employee employee) {}
+
+    private final EmployeeService employeeService;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final int batchSize;
+
+    private final long lingerNanos;
+
+    // Outcomes are kept for the retention period so clients can poll them, then dropped, the oldest first beyond the maximum size
+    private final Cache<String, EmployeeIngestionStatus> statuses;
+
+    // Submitters hold the read side while they check accepting and enqueue, stop() takes the write side to close the queue
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private final Thread writer = Thread.ofPlatform().name("employee-ingest").daemon().unstarted(this::drain);
+
+    private volatile boolean running;
+
+    private boolean accepting = true;
+
+    public EmployeeIngestionServiceImpl(EmployeeService employeeService, MeterRegistry meterRegistry,
+                                        @Value("${employee.ingest.capacity:10000}") int capacity,
+                                        @Value("${employee.ingest.batch-size:500}") int batchSize,
+                                        @Value("${employee.ingest.linger:50ms}") Duration linger,
+                                        @Value("${employee.ingest.status-retention:1h}") Duration statusRetention,
+                                        @Value("${employee.ingest.status-max-size:100000}") long statusMaxSize) {
+
+        this.employeeService = employeeService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.statuses = Caffeine.newBuilder().expireAfterWrite(statusRetention).maximumSize(statusMaxSize).build();
+        Gauge.builder("employee.ingest.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        running = true;
+        writer.start();
+    }
+
+    // Stops taking new work and lets the writer flush what is already queued
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        // Once the write lock is held no submitter is between its accepting check and its offer, so nothing lands after the writer's last drain
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    @Override
+    public Optional<EmployeeIngestionStatus> submitEmployee(Employee employee) {
+
+        String requestId = UUID.randomUUID().toString();
+        EmployeeIngestionStatus status = EmployeeIngestionStatus.builder().requestId(requestId).status(EmployeeIngestionStatus.Status.QUEUED).build();
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) return Optional.empty();
+
+            statuses.put(requestId, status);
+            if (!queue.offer(new Pending(requestId, employee))) {
+                statuses.invalidate(requestId);
+                return Optional.empty();
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        return Optional.of(status);
+    }
+
+    @Override
+    public Optional<EmployeeIngestionStatus> getIngestionStatus(String requestId) {
+
+        return Optional.ofNullable(statuses.getIfPresent(requestId));
+    }
+
+    private void drain() {
+
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                // Wait up to the linger time for the batch to fill so bursts are written together
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed To Flush {} Queued Employees", batch.size(), e);
+                batch.forEach(pending -> complete(pending, EmployeeIngestionStatus.Status.FAILED, null, e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+
+        List<Employee> employees = batch.stream().map(Pending::employee).toList();
+        List<EmployeeBatchResult> results;
+        try {
+            results = employeeService.saveAllEmployee(employees);
+        } catch (EmployeeException e) {
+            // A concurrent create hit the unique email, the retry reports it per row
+            try {
+                results = employeeService.saveAllEmployee(employees);
+            } catch (EmployeeException | DataAccessException again) {
+                // Still racing other writers, row by row only the conflicting rows fail
+                results = saveEachEmployee(employees);
+            }
+        } catch (DataAccessException e) {
+            // One bad row (a NOT NULL or length violation, ...) rejects the whole batch, row by row only that row fails
+            log.warn("Batch Of {} Queued Employees Rejected, Saving Row By Row", employees.size(), e);
+            results = saveEachEmployee(employees);
+        }
+
+        for (EmployeeBatchResult result : results) {
+            Pending pending = batch.get(result.getIndex());
+            EmployeeIngestionStatus.Status status = result.getStatus() == EmployeeBatchResult.Status.CREATED
+                    ? EmployeeIngestionStatus.Status.CREATED : EmployeeIngestionStatus.Status.FAILED;
+            complete(pending, status, result.getId(), result.getMessage());
+        }
+    }
+
+    private List<EmployeeBatchResult> saveEachEmployee(List<Employee> employees) {
+
+        List<EmployeeBatchResult> results = new ArrayList<>(employees.size());
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            EmployeeBatchResult result = EmployeeBatchResult.builder().index(index).email(employee.getEmail()).build();
+            try {
+                result.setId(employeeService.saveEmployee(employee).getId());
+                result.setStatus(EmployeeBatchResult.Status.CREATED);
+            } catch (RuntimeException e) {
+                result.setStatus(EmployeeBatchResult.Status.FAILED);
+                result.setMessage(e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private void complete(Pending pending, EmployeeIngestionStatus.Status status, Long id, String message) {
+
+        statuses.put(pending.requestId(), EmployeeIngestionStatus.builder().requestId(pending.requestId()).status(status).id(id).message(message).build());
+    }
+}
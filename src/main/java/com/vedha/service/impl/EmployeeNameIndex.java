@@ -0,0 +1,275 @@
+package com.vedha.service.impl;
+
+import com.vedha.dto.EmployeeView;
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// In process search over name and email, answered without touching the database.
+// Prefix search walks a sorted token map, fuzzy search counts shared trigrams with the query.
+// Writes come from this instance only, so like EmailBloomFilter disable it when several instances share the table.
+@Slf4j
+@Component
+public class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    // Fuzzy scores are at most 1, prefix matches score above this in the order they were found
+    private static final double PREFIX_SCORE = 1.0;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final boolean enabled;
+
+    private final double minSimilarity;
+
+    private final Map<Long, EmployeeView> documents = new ConcurrentHashMap<>();
+
+    // Whole name, whole email, email local part and every word of both
+    private final ConcurrentSkipListMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Set<Long>> grams = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    // While warm-up streams its snapshot, ids and age ranges written through put / remove are recorded here: the snapshot row
+    // is older than what those writes applied and is skipped. Guarded by this, like index and unindex
+    private boolean warming;
+
+    private final Set<Long> touchedWhileWarming = new HashSet<>();
+
+    private final List<int[]> removedAgeRangesWhileWarming = new ArrayList<>();
+
+    public EmployeeNameIndex(EmployeeRepository employeeRepository,
+                             @Value("${employee.name-index.enabled:false}") boolean enabled,
+                             @Value("${employee.name-index.min-similarity:0.5}") double minSimilarity) {
+
+        this.employeeRepository = employeeRepository;
+        this.enabled = enabled;
+        this.minSimilarity = minSimilarity;
+    }
+
+    // Streams the table once, rows written meanwhile are indexed by the service as usual and win over the snapshot
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        if (!enabled) return;
+
+        LongAdder count = new LongAdder();
+        synchronized (this) {
+            warming = true;
+        }
+        try {
+            employeeRepository.streamAllEmployee(employee -> {
+                if (indexSnapshot(employee)) count.increment();
+            });
+        } finally {
+            synchronized (this) {
+                warming = false;
+                touchedWhileWarming.clear();
+                removedAgeRangesWhileWarming.clear();
+            }
+        }
+        ready = true;
+        log.info("Employee name index warmed with {} employees", count.sum());
+    }
+
+    public boolean isReady() { return ready; }
+
+    // Applied after commit so a rolled back write never shows up in search
+    public void put(Employee employee) {
+
+        if (!enabled || employee == null || employee.getId() == null) return;
+        afterCommit(() -> index(employee));
+    }
+
+    public void putAll(Collection<Employee> employees) {
+
+        if (!enabled) return;
+        afterCommit(() -> employees.forEach(this::index));
+    }
+
+    public void remove(Long employeeId) {
+
+        if (!enabled || employeeId == null) return;
+        afterCommit(() -> unindex(employeeId));
+    }
+
+    public void removeAll(Collection<Long> employeeIds) {
+
+        if (!enabled) return;
+        afterCommit(() -> employeeIds.forEach(this::unindex));
+    }
+
+    public void removeByAgeRange(int minAge, int maxAge) {
+
+        if (!enabled) return;
+        afterCommit(() -> unindexAgeRange(minAge, maxAge));
+    }
+
+    // Prefix matches rank first, then fuzzy matches by the share of query trigrams they contain
+    public List<EmployeeView> search(String query, int limit) {
+
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+
+        // Prefix matches in token order, so the shortest completions come first and the walk stops once the page is full
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (Set<Long> ids : tokens.subMap(normalized, true, normalized + Character.MAX_VALUE, true).values()) {
+            for (Long id : ids) {
+                scores.putIfAbsent(id, PREFIX_SCORE + 1.0 / (1 + scores.size()));
+                if (scores.size() >= limit) break;
+            }
+            if (scores.size() >= limit) break;
+        }
+
+        // Fuzzy matches always score below a prefix match, so they are only needed when prefixes do not fill the page
+        if (normalized.length() >= GRAM && scores.size() < limit) {
+            List<Set<Long>> postings = grams(" " + normalized).stream()
+                    .map(gram -> grams.getOrDefault(gram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+
+            // A match shares at least `required` grams, so it must appear in one of the rarest (size - required + 1) postings
+            int required = (int) Math.ceil(minSimilarity * postings.size());
+            Set<Long> candidates = new HashSet<>();
+            postings.subList(0, postings.size() - Math.max(required, 1) + 1).forEach(candidates::addAll);
+            for (Long id : candidates) {
+                if (scores.containsKey(id)) continue;
+                long shared = postings.stream().filter(ids -> ids.contains(id)).count();
+                double similarity = (double) shared / postings.size();
+                if (similarity >= minSimilarity) scores.put(id, similarity);
+            }
+        }
+
+        // Keeps only the best `limit` entries instead of sorting every match
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, ranking.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) best.poll();
+        }
+
+        return best.stream().sorted(ranking)
+                .map(entry -> documents.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private synchronized boolean indexSnapshot(Employee employee) {
+
+        if (touchedWhileWarming.contains(employee.getId())) return false;
+        for (int[] ageRange : removedAgeRangesWhileWarming) {
+            if (employee.getAge() != null && employee.getAge() >= ageRange[0] && employee.getAge() <= ageRange[1]) return false;
+        }
+        store(employee);
+        return true;
+    }
+
+    private synchronized void index(Employee employee) {
+
+        if (warming) touchedWhileWarming.add(employee.getId());
+        store(employee);
+    }
+
+    private synchronized void unindex(Long employeeId) {
+
+        if (warming) touchedWhileWarming.add(employeeId);
+        drop(employeeId);
+    }
+
+    private synchronized void unindexAgeRange(int minAge, int maxAge) {
+
+        if (warming) removedAgeRangesWhileWarming.add(new int[]{minAge, maxAge});
+        documents.values().stream()
+                .filter(view -> view.getAge() != null && view.getAge() >= minAge && view.getAge() <= maxAge)
+                .map(EmployeeView::getId).toList()
+                .forEach(this::drop);
+    }
+
+    private void store(Employee employee) {
+
+        drop(employee.getId());
+        EmployeeView view = new EmployeeView(employee.getId(), employee.getName(), employee.getAge(), employee.getEmail(), employee.getVersion());
+        documents.put(view.getId(), view);
+        Set<String> viewTokens = tokens(view);
+        viewTokens.forEach(token -> tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(view.getId()));
+        viewTokens.forEach(token -> grams(" " + token + " ").forEach(gram -> grams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(view.getId())));
+    }
+
+    private void drop(Long employeeId) {
+
+        EmployeeView view = documents.remove(employeeId);
+        if (view == null) return;
+        Set<String> viewTokens = tokens(view);
+        viewTokens.forEach(token -> tokens.computeIfPresent(token, (key, ids) -> ids.remove(employeeId) && ids.isEmpty() ? null : ids));
+        viewTokens.forEach(token -> grams(" " + token + " ").forEach(gram -> grams.computeIfPresent(gram, (key, ids) -> ids.remove(employeeId) && ids.isEmpty() ? null : ids)));
+    }
+
+    private static Set<String> tokens(EmployeeView view) {
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : new String[]{view.getName(), view.getEmail()}) {
+            String normalized = normalize(value);
+            if (normalized.isEmpty()) continue;
+            tokens.add(normalized);
+            for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) tokens.add(word);
+            }
+        }
+        String email = normalize(view.getEmail());
+        int at = email.indexOf('@');
+        if (at > 0) tokens.add(email.substring(0, at));
+        return tokens;
+    }
+
+    private static Set<String> grams(String value) {
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable runnable) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -1,62 +1,500 @@
 package com.vedha.service.impl;
 
+import com.vedha.config.CacheConfig;
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeVersion;
+import com.vedha.dto.EmployeeView;
+import com.vedha.dto.EmployeeWindow;
 import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeConflictException;
 import com.vedha.exception.EmployeeException;
 import com.vedha.repository.EmployeeRepository;
+import com.vedha.repository.EmployeeSpecifications;
 import com.vedha.service.EmployeeService;
+import com.vedha.utill.ContinuationToken;
+import com.vedha.utill.EmployeeETag;
+import com.vedha.utill.EmployeeProjection;
+import com.vedha.utill.PageCount;
 import com.vedha.utill.SortField;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "employee.service", histogram = true, percentiles = {0.5, 0.95, 0.99}) // One timer per method, tagged with class and method
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final int MULTI_GET_CHUNK_SIZE = 1000;
+
+    private static final int UPDATE_MAX_ATTEMPTS = 5;
+
+    private static final long UPDATE_RETRY_BACKOFF_NANOS = 500_000;
+
+    private static final String EMAIL_UNIQUE_INDEX = "uk_employees_email";
+
     private final EmployeeRepository employeeRepository;
 
+    private final EmailBloomFilter emailBloomFilter;
+
+    private final EmployeeNameIndex employeeNameIndex;
+
+    private final EmployeeByIdCoalescer employeeByIdCoalescer;
+
+    private final EmployeeCountEstimate employeeCountEstimate;
+
+    private final CacheManager cacheManager;
+
     @Override
     public Employee saveEmployee(Employee employee) {
 
-        boolean present = employeeRepository.findEmployeeByEmail(employee.getEmail()).isPresent();
-        if (present) throw new EmployeeException("Employee Already Present: " + employee.getEmail());
+        // Single insert, the unique index on email rejects duplicates even under concurrent creates
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.save(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) throw e;
+            throw new EmployeeException("Employee Already Present: " + employee.getEmail(), e);
+        }
+        emailBloomFilter.put(savedEmployee.getEmail());
+        employeeNameIndex.put(savedEmployee);
+        employeeCountEstimate.add(1);
+        return savedEmployee;
+    }
+
+    @Override
+    @Transactional
+    public List<EmployeeBatchResult> saveAllEmployee(List<Employee> employees) {
+
+        List<EmployeeBatchResult> results = new ArrayList<>(employees.size());
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            EmployeeBatchResult result = EmployeeBatchResult.builder().index(index).email(employee.getEmail()).build();
+            if (employee.getName() == null || employee.getAge() == null || employee.getEmail() == null) {
+                failed(result, "Name, Age And Email Are Required");
+            } else if (candidates.putIfAbsent(employee.getEmail().toLowerCase(Locale.ROOT), index) != null) {
+                failed(result, "Duplicate Email In Batch: " + employee.getEmail());
+            }
+            results.add(result);
+        }
+
+        // Emails the bloom filter has never seen are new, the rest are checked with one lookup per chunk
+        List<String> emails = candidates.keySet().stream().filter(emailBloomFilter::mightContain).toList();
+        Set<String> existingEmails = findExistingEmails(emails);
+
+        List<Employee> newEmployees = new ArrayList<>();
+        List<EmployeeBatchResult> newResults = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            EmployeeBatchResult result = results.get(candidate.getValue());
+            if (existingEmails.contains(candidate.getKey())) {
+                failed(result, "Employee Already Present: " + result.getEmail());
+            } else {
+                newEmployees.add(employees.get(candidate.getValue()));
+                newResults.add(result);
+            }
+        }
+
+        try {
+            employeeRepository.insertAllEmployee(newEmployees);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) throw e;
+            // Concurrent create or a row the bloom filter has not seen, teach the filter so the retry checks these emails
+            findExistingEmails(newEmployees.stream().map(Employee::getEmail).toList()).forEach(emailBloomFilter::put);
+            throw new EmployeeException("Batch Conflicts With A Concurrent Create, Retry The Batch", e);
+        }
+        for (int i = 0; i < newEmployees.size(); i++) {
+            emailBloomFilter.put(newEmployees.get(i).getEmail());
+            newResults.get(i).setStatus(EmployeeBatchResult.Status.CREATED);
+            newResults.get(i).setId(newEmployees.get(i).getId());
+        }
+        employeeNameIndex.putAll(newEmployees);
+        employeeCountEstimate.add(newEmployees.size());
+
+        return results;
+    }
+
+    // uk_employees_email ignores case, so emails are compared lower cased: the returned set holds them that way
+    private Set<String> findExistingEmails(List<String> emails) {
+
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            employeeRepository.findExistingEmails(emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size())))
+                    .forEach(email -> existingEmails.add(email.toLowerCase(Locale.ROOT)));
+        }
+        return existingEmails;
+    }
+
+    // Only the unique email index means "already present", NOT NULL, too long and other violations surface unchanged
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+
+        if (e instanceof DuplicateKeyException) return true;
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_INDEX);
+            }
+        }
+        return false;
+    }
+
+    private static void failed(EmployeeBatchResult result, String message) {
 
-        return employeeRepository.save(employee);
+        result.setStatus(EmployeeBatchResult.Status.FAILED);
+        result.setMessage(message);
     }
 
+    // Read only transactions flush nothing and keep no dirty checking snapshots
     @Override
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployee() { return employeeRepository.findAll(); }
 
     @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> getAllEmployee(Class<T> type) { return employeeRepository.findAllBy(type); }
+
+    @Override
+    public void exportAllEmployee(Consumer<Employee> employeeConsumer) {
+
+        employeeRepository.streamAllEmployee(employeeConsumer);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId", unless = "#result == null")
     public Optional<Employee> getEmployeeById(Long employeeId) {
-        return employeeRepository.findById(employeeId);
+        // Cache misses from concurrent callers are merged into one query
+        return employeeByIdCoalescer.findById(employeeId);
+    }
+
+    @Override
+    public EmployeeMultiGet getEmployeeByIds(List<Long> employeeIds) {
+
+        // Ids already in the id cache are served from it, only the rest go to the database, one IN list per chunk
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE);
+        List<Long> distinctIds = employeeIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, Employee> employees = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long employeeId : distinctIds) {
+            Employee cached = cache != null ? cache.get(employeeId, Employee.class) : null;
+            if (cached != null) employees.put(employeeId, cached);
+            else uncachedIds.add(employeeId);
+        }
+        for (int from = 0; from < uncachedIds.size(); from += MULTI_GET_CHUNK_SIZE) {
+            for (Employee employee : employeeRepository.findAllById(uncachedIds.subList(from, Math.min(from + MULTI_GET_CHUNK_SIZE, uncachedIds.size())))) {
+                employees.put(employee.getId(), employee);
+                if (cache != null) cache.put(employee.getId(), employee);
+            }
+        }
+
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long employeeId : distinctIds) {
+            Employee employee = employees.get(employeeId);
+            if (employee != null) found.put(employeeId, employee);
+            else missing.add(employeeId);
+        }
+        return EmployeeMultiGet.builder().employees(found).missing(missing).build();
+    }
+
+    @Override
+    public Optional<Long> getEmployeeVersion(Long employeeId) {
+        return employeeRepository.findVersionById(employeeId);
     }
 
     @Override
+    // Evicted on both sides: callers may have mutated the cached instance before a failed save
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#updatedEmployee.id", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#updatedEmployee.id")
+    })
     public Employee updateEmployee(Employee updatedEmployee) {
 
-        return employeeRepository.save(updatedEmployee);
+        // A given version makes the save conditional, a stale one is the caller's conflict to resolve and is not retried
+        if (updatedEmployee.getVersion() != null) {
+            try {
+                return saveUpdatedEmployee(updatedEmployee);
+            } catch (ConcurrencyFailureException e) {
+                throw new EmployeeConflictException(updatedEmployee.getId(), employeeRepository.findVersionById(updatedEmployee.getId()).orElse(null), e);
+            }
+        }
+
+        // No version keeps last write wins, a write landing between the version read and the save only costs a retry
+        return retryOnConflict(updatedEmployee.getId(), () -> {
+            employeeRepository.findVersionById(updatedEmployee.getId()).ifPresent(updatedEmployee::setVersion);
+            return saveUpdatedEmployee(updatedEmployee);
+        });
+    }
+
+    private Employee saveUpdatedEmployee(Employee updatedEmployee) {
+
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.save(updatedEmployee);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) throw e;
+            throw new EmployeeException("Employee Already Present: " + updatedEmployee.getEmail(), e);
+        }
+        emailBloomFilter.put(savedEmployee.getEmail());
+        employeeNameIndex.put(savedEmployee);
+        return savedEmployee;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
+    public Optional<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee) {
+
+        // One UPDATE instead of SELECT + merge SELECT + UPDATE, MySQL has no RETURNING so the row is read back once after the commit.
+        // The statement evicts only this row from the second level cache, the rest of the region stays warm
+        int updateCount;
+        try {
+            updateCount = employeeRepository.updateEmployeeById(employeeId, updatedEmployee.getName(), updatedEmployee.getAge(), updatedEmployee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) throw e;
+            throw new EmployeeException("Employee Already Present: " + updatedEmployee.getEmail(), e);
+        }
+        if (updateCount == 0) return Optional.empty();
+
+        return readBackUpdatedEmployee(employeeId);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
+    public Optional<Employee> updateEmployeeById(Long employeeId, Employee updatedEmployee, Long expectedVersion) {
+
+        int updateCount;
+        try {
+            updateCount = employeeRepository.updateEmployeeByIdAndVersion(employeeId, expectedVersion, updatedEmployee.getName(), updatedEmployee.getAge(), updatedEmployee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) throw e;
+            throw new EmployeeException("Employee Already Present: " + updatedEmployee.getEmail(), e);
+        }
+        // No row matched: either it is gone, or somebody else wrote it after the caller read expectedVersion
+        if (updateCount == 0) {
+            Optional<Long> currentVersion = employeeRepository.findVersionById(employeeId);
+            if (currentVersion.isEmpty()) return Optional.empty();
+            throw new EmployeeConflictException(employeeId, currentVersion.get(), null);
+        }
+
+        return readBackUpdatedEmployee(employeeId);
+    }
+
+    private Optional<Employee> readBackUpdatedEmployee(Long employeeId) {
+
+        Optional<Employee> employee = employeeRepository.findById(employeeId);
+        employee.ifPresent(updated -> {
+            emailBloomFilter.put(updated.getEmail());
+            employeeNameIndex.put(updated);
+        });
+        return employee;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
+    public Optional<Employee> modifyEmployeeById(Long employeeId, Consumer<Employee> modification) {
+
+        // Every attempt re-reads the row, so the modification is applied to the current state and never to a stale copy
+        Optional<Employee> employee = retryOnConflict(employeeId, () -> {
+            try {
+                return employeeRepository.modifyEmployee(employeeId, modification);
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateEmail(e)) throw e;
+                throw new EmployeeException("Employee Already Present: " + employeeId, e);
+            }
+        });
+        employee.ifPresent(modifiedEmployee -> {
+            emailBloomFilter.put(modifiedEmployee.getEmail());
+            employeeNameIndex.put(modifiedEmployee);
+        });
+        return employee;
+    }
+
+    // Optimistic conflicts and pessimistic lock timeouts alike, retried after a jittered pause that doubles per attempt
+    private <T> T retryOnConflict(Long employeeId, Supplier<T> write) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == UPDATE_MAX_ATTEMPTS) {
+                    throw new EmployeeConflictException(employeeId, employeeRepository.findVersionById(employeeId).orElse(null), e);
+                }
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(UPDATE_RETRY_BACKOFF_NANOS << attempt));
+            }
+        }
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public Long deleteEmployeeById(Long employeeId) {
-        return employeeRepository.deleteEmployeeById(employeeId);
+        Long deleteCount = employeeRepository.deleteEmployeeById(employeeId);
+        employeeNameIndex.remove(employeeId);
+        employeeCountEstimate.add(-deleteCount);
+        return deleteCount;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public void deleteEmployeeByIdNoReturn(Long employeeId) {
-        employeeRepository.deleteById(employeeId);
+        Long deleteCount = employeeRepository.deleteEmployeeById(employeeId);
+        employeeNameIndex.remove(employeeId);
+        employeeCountEstimate.add(-deleteCount);
     }
 
+    // Each chunk is its own short transaction, so a large purge never loads rows or holds one huge lock
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, allEntries = true)
+    public long deleteEmployeeByIds(List<Long> employeeIds) {
+
+        List<Long> sortedIds = employeeIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        long deleteCount = 0;
+        for (int from = 0; from < sortedIds.size(); from += DELETE_CHUNK_SIZE) {
+            deleteCount += employeeRepository.deleteAllByIds(sortedIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, sortedIds.size())));
+        }
+        employeeNameIndex.removeAll(sortedIds);
+        employeeCountEstimate.add(-deleteCount);
+        return deleteCount;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, allEntries = true)
+    public long deleteEmployeeByAgeRange(int minAge, int maxAge) {
+
+        long deleteCount = 0;
+        Long fromId = employeeRepository.findFirstIdFrom(Long.MIN_VALUE);
+        while (fromId != null) {
+            long toId = fromId + DELETE_CHUNK_SIZE;
+            deleteCount += employeeRepository.deleteByIdRangeAndAgeBetween(fromId, toId, minAge, maxAge);
+            // Jump over id gaps instead of walking empty ranges
+            fromId = employeeRepository.findFirstIdFrom(toId);
+        }
+        employeeNameIndex.removeByAgeRange(minAge, maxAge);
+        employeeCountEstimate.add(-deleteCount);
+        return deleteCount;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<Employee> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField) {
 
         PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sortField.getFiledValue()));
         return employeeRepository.findAll(pageRequest);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Page<T> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, Class<T> type) {
+
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sortField.getFiledValue()));
+        return employeeRepository.findAllBy(pageRequest, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Slice<T> getAllEmployeePaginated(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, Class<T> type, PageCount pageCount) {
+
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sortField.getFiledValue()));
+        return findPage(pageRequest, type, pageCount);
+    }
+
+    // Fingerprints the page from (id, version) alone, without loading the rows
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllEmployeePaginatedETag(int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField, EmployeeProjection projection, PageCount pageCount) {
+
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, sortField.getFiledValue()));
+        return EmployeeETag.ofPage(findPage(pageRequest, EmployeeVersion.class, pageCount), projection);
+    }
+
+    private <T> Slice<T> findPage(PageRequest pageRequest, Class<T> type, PageCount pageCount) {
+
+        return switch (pageCount) {
+            case EXACT -> employeeRepository.findAllBy(pageRequest, type);
+            case NONE -> employeeRepository.findSliceBy(pageRequest, type);
+            case APPROXIMATE -> withApproximateTotal(employeeRepository.findSliceBy(pageRequest, type));
+        };
+    }
+
+    // The estimate never contradicts what the slice proves: a last page knows its exact total, any other page has at least one more row
+    private <T> Page<T> withApproximateTotal(Slice<T> slice) {
+
+        long offset = slice.getPageable().getOffset();
+        long seen = offset + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) total = Math.max(employeeCountEstimate.get(), seen + 1);
+        else if (slice.hasContent()) total = seen;
+        else total = Math.min(employeeCountEstimate.get(), offset);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Employee> searchEmployee(EmployeeSearchCriteria criteria, int pageNumber, int pageSize, Sort.Direction sortDirection, SortField sortField) {
+
+        // id is the tie-breaker so pages stay stable when the sort field has duplicates
+        Sort sort = sortField == SortField.ID ? Sort.by(sortDirection, SortField.ID.getFiledValue())
+                : Sort.by(sortDirection, sortField.getFiledValue(), SortField.ID.getFiledValue());
+        return employeeRepository.findAll(EmployeeSpecifications.matching(criteria), PageRequest.of(pageNumber, pageSize, sort));
+    }
+
+    @Override
+    public List<EmployeeView> searchEmployeeByName(String query, int limit) {
+
+        return employeeNameIndex.search(query, limit);
+    }
+
+    @Override
+    public EmployeeWindow getAllEmployeeKeysetPaginated(String continuationToken, int pageSize, Sort.Direction sortDirection, SortField sortField) {
+
+        // id is the tie-breaker so the keyset is unique even when the sort field is not
+        Sort sort = sortField == SortField.ID ? Sort.by(sortDirection, SortField.ID.getFiledValue())
+                : Sort.by(sortDirection, sortField.getFiledValue(), SortField.ID.getFiledValue());
+        ScrollPosition scrollPosition = StringUtils.hasText(continuationToken)
+                ? ContinuationToken.decode(continuationToken, sortDirection, sortField) : ScrollPosition.keyset();
+
+        Window<Employee> window = employeeRepository.findAllBy(scrollPosition, sort, Limit.of(pageSize));
+        List<Employee> content = window.getContent();
+        String nextToken = window.hasNext() && !content.isEmpty()
+                ? ContinuationToken.encode(sortDirection, sortField, content.get(content.size() - 1)) : null;
+
+        return EmployeeWindow.builder().content(content).size(content.size()).hasNext(window.hasNext()).continuationToken(nextToken).build();
+    }
 }
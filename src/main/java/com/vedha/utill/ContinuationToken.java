@@ -0,0 +1,64 @@
+package com.vedha.utill;
+
+import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Opaque keyset cursor: "sortDirection|sortField|id|sortValue" encoded as url safe base64
+public final class ContinuationToken {
+
+    private static final String SEPARATOR = "|";
+
+    private ContinuationToken() {
+    }
+
+    public static String encode(Sort.Direction sortDirection, SortField sortField, Employee lastEmployee) {
+
+        String raw = String.join(SEPARATOR, sortDirection.name(), sortField.name(), String.valueOf(lastEmployee.getId()), String.valueOf(sortValue(sortField, lastEmployee)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(String continuationToken, Sort.Direction sortDirection, SortField sortField) {
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new EmployeeException("Invalid Continuation Token: " + continuationToken, e);
+        }
+
+        if (parts.length != 4) throw new EmployeeException("Invalid Continuation Token: " + continuationToken);
+        if (!sortDirection.name().equals(parts[0]) || !sortField.name().equals(parts[1]))
+            throw new EmployeeException("Continuation Token Does Not Match Sort: " + sortDirection + " " + sortField);
+
+        try {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            switch (sortField) {
+                case AGE -> keys.put(sortField.getFiledValue(), Integer.valueOf(parts[3]));
+                case NAME, EMAIL -> keys.put(sortField.getFiledValue(), parts[3]);
+                case ID -> { }
+            }
+            keys.put(SortField.ID.getFiledValue(), Long.valueOf(parts[2]));
+            return ScrollPosition.forward(keys);
+        } catch (NumberFormatException e) {
+            throw new EmployeeException("Invalid Continuation Token: " + continuationToken, e);
+        }
+    }
+
+    private static Object sortValue(SortField sortField, Employee employee) {
+
+        return switch (sortField) {
+            case ID -> employee.getId();
+            case NAME -> employee.getName();
+            case AGE -> employee.getAge();
+            case EMAIL -> employee.getEmail();
+        };
+    }
+}
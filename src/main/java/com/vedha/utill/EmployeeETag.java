@@ -0,0 +1,81 @@
+package com.vedha.utill;
+
+import com.vedha.dto.VersionedEmployee;
+import com.vedha.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+// "id-version" is a strong validator for the JSON body of one employee, the Smile and CBOR bodies get "id-version-smile" and "id-version-cbor"
+// since a strong tag promises byte identical bodies; a page gets a weak digest of the page request, projection, total (has-next for a Slice) and every (id, version):
+// Tomcat only gzips responses without a strong ETag, and the JSON, Smile and CBOR bodies of a page are equivalent rather than byte identical
+public final class EmployeeETag {
+
+    private EmployeeETag() {
+    }
+
+    public static String of(Employee employee) {
+
+        return of(employee.getId(), employee.getVersion());
+    }
+
+    public static String of(Long employeeId, Long version) {
+
+        return of(employeeId, version, MediaType.APPLICATION_JSON);
+    }
+
+    public static String of(Employee employee, MediaType mediaType) {
+
+        return of(employee.getId(), employee.getVersion(), mediaType);
+    }
+
+    public static String of(Long employeeId, Long version, MediaType mediaType) {
+
+        return "\"" + employeeId + "-" + version + suffix(mediaType) + "\"";
+    }
+
+    // Version carried by a strong tag of this employee in any encoding, a weak or foreign tag never matches an If-Match
+    public static Optional<Long> versionOf(String eTag, Long employeeId) {
+
+        String tag = eTag.trim();
+        String prefix = "\"" + employeeId + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) return Optional.empty();
+        String version = tag.substring(prefix.length(), tag.length() - 1);
+        for (String suffix : List.of(suffix(EmployeeMediaType.APPLICATION_SMILE), suffix(EmployeeMediaType.APPLICATION_CBOR))) {
+            if (version.endsWith(suffix)) version = version.substring(0, version.length() - suffix.length());
+        }
+        try {
+            return Optional.of(Long.parseLong(version));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String suffix(MediaType mediaType) {
+
+        if (EmployeeMediaType.APPLICATION_SMILE.isCompatibleWith(mediaType)) return "-smile";
+        if (EmployeeMediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) return "-cbor";
+        return "";
+    }
+
+    public static String ofPage(Slice<? extends VersionedEmployee> page, EmployeeProjection projection) {
+
+        StringBuilder fingerprint = new StringBuilder().append(page.getPageable()).append('|').append(projection).append('|')
+                .append(page instanceof Page<?> counted ? counted.getTotalElements() : page.hasNext() ? "next" : "last");
+        page.getContent().forEach(row -> fingerprint.append('|').append(row.getId()).append(':').append(row.getVersion()));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"p-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 Not Available", e);
+        }
+    }
+}
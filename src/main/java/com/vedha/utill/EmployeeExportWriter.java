@@ -0,0 +1,65 @@
+package com.vedha.utill;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vedha.entity.Employee;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// Writes one employee per line as it arrives, the caller flushes once the stream is drained
+public class EmployeeExportWriter implements Consumer<Employee> {
+
+    private static final String CSV_HEADER = "id,name,age,email";
+
+    private final ExportFormat exportFormat;
+
+    private final ObjectWriter objectWriter;
+
+    private final Writer writer;
+
+    public EmployeeExportWriter(ExportFormat exportFormat, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+
+        this.exportFormat = exportFormat;
+        // Each writeValue closes its generator, which would otherwise flush the response stream once per row
+        this.objectWriter = objectMapper.writerFor(Employee.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (exportFormat == ExportFormat.CSV) writer.write(CSV_HEADER + "\n");
+    }
+
+    @Override
+    public void accept(Employee employee) {
+
+        try {
+            if (exportFormat == ExportFormat.CSV) {
+                writer.write(employee.getId() + "," + csvValue(employee.getName()) + "," + employee.getAge() + "," + csvValue(employee.getEmail()));
+            } else {
+                objectWriter.writeValue(writer, employee);
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+
+        writer.flush();
+    }
+
+    private static String csvValue(String value) {
+
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
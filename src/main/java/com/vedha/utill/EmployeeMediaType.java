@@ -0,0 +1,46 @@
+package com.vedha.utill;
+
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+// Binary encodings of the JSON bodies, picked by the Accept header
+public final class EmployeeMediaType {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+
+    private static final List<MediaType> ENCODINGS = List.of(MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR);
+
+    private EmployeeMediaType() {
+    }
+
+    // Encoding a response will be written in, decided up front so its ETag can name it: each encoding takes the quality of the
+    // most specific accepted range covering it, the highest quality wins and ties go to JSON, then Smile, then CBOR
+    public static MediaType negotiate(List<MediaType> accepted) {
+
+        if (accepted.isEmpty()) return MediaType.APPLICATION_JSON;
+        MediaType negotiated = MediaType.APPLICATION_JSON;
+        double bestQuality = 0;
+        for (MediaType encoding : ENCODINGS) {
+            double quality = accepted.stream().filter(range -> range.includes(encoding))
+                    .max(Comparator.comparingInt(EmployeeMediaType::specificity)).map(MediaType::getQualityValue).orElse(0.0);
+            if (quality > bestQuality) {
+                negotiated = encoding;
+                bestQuality = quality;
+            }
+        }
+        return negotiated;
+    }
+
+    private static int specificity(MediaType range) {
+
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+}
@@ -0,0 +1,21 @@
+package com.vedha.utill;
+
+import com.vedha.dto.EmployeeSummary;
+import com.vedha.dto.EmployeeView;
+import com.vedha.dto.VersionedEmployee;
+import com.vedha.entity.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EmployeeProjection {
+
+    ENTITY(Employee.class),
+
+    FULL(EmployeeView.class),
+
+    SUMMARY(EmployeeSummary.class);
+
+    private final Class<? extends VersionedEmployee> type;
+}
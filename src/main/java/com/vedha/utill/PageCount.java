@@ -0,0 +1,12 @@
+package com.vedha.utill;
+
+// How a page learns its total: EXACT runs a count(*), APPROXIMATE uses the maintained EmployeeCountEstimate,
+// NONE returns a Slice that only knows whether a next page exists (pageSize + 1 rows are fetched)
+public enum PageCount {
+
+    EXACT,
+
+    APPROXIMATE,
+
+    NONE
+}
@@ -0,0 +1,18 @@
+package com.vedha.utill;
+
+import jakarta.persistence.LockModeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// How a read-modify-write holds the row: OPTIMISTIC relies on the @Version check of the UPDATE and retries on conflict,
+// PESSIMISTIC reads with SELECT ... FOR UPDATE so concurrent writers queue on the row lock instead
+@Getter
+@AllArgsConstructor
+public enum UpdateLocking {
+
+    OPTIMISTIC(LockModeType.NONE),
+
+    PESSIMISTIC(LockModeType.PESSIMISTIC_WRITE);
+
+    private final LockModeType lockModeType;
+}
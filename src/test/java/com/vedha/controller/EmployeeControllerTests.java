@@ -1,27 +1,65 @@
 package com.vedha.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeIngestionStatus;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeSummary;
+import com.vedha.dto.EmployeeView;
+import com.vedha.dto.EmployeeWindow;
 import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeConflictException;
+import com.vedha.service.EmployeeIngestionService;
 import com.vedha.service.EmployeeService;
+import com.vedha.utill.EmployeeETag;
+import com.vedha.utill.EmployeeMediaType;
+import com.vedha.utill.EmployeeProjection;
+import com.vedha.utill.PageCount;
+import com.vedha.utill.SortField;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.hamcrest.CoreMatchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = EmployeeController.class) // Loads Only Web Beans in IOC container, it's not mandatory to add controller class in the annotation
@@ -33,6 +71,9 @@ class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeIngestionService employeeIngestionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -64,6 +105,86 @@ class EmployeeControllerTests {
 
     }
 
+    @Test
+    @DisplayName("JUnit Test For Create Employee Batch Api From NDJSON")
+    public void givenNdjsonEmployees_whenCreateBatch_thenReturnPerRowResults() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().name("Vedha").age(23).email("vedha@gmail.com").build();
+        Employee vedha2 = Employee.builder().name("Vedha2").age(24).email("vedha@gmail.com").build();
+        given(employeeService.saveAllEmployee(List.of(vedha, vedha2))).willReturn(List.of(
+                EmployeeBatchResult.builder().index(0).email("vedha@gmail.com").status(EmployeeBatchResult.Status.CREATED).id(1L).build(),
+                EmployeeBatchResult.builder().index(1).email("vedha@gmail.com").status(EmployeeBatchResult.Status.FAILED).message("Duplicate Email In Batch: vedha@gmail.com").build()
+        ));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(post("/api/employee/createBatch")
+                .contentType("application/x-ndjson")
+                .content(objectMapper.writeValueAsString(vedha) + "\n" + objectMapper.writeValueAsString(vedha2) + "\n"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].status", is("FAILED")));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Create Employee Async Api")
+    public void givenEmployee_whenCreateAsync_thenReturnAccepted() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee employee = Employee.builder().name("Vedha").age(22).email("vedha@gmail.com").build();
+        given(employeeIngestionService.submitEmployee(any(Employee.class)))
+                .willReturn(Optional.of(EmployeeIngestionStatus.builder().requestId("req-1").status(EmployeeIngestionStatus.Status.QUEUED).build()));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(post("/api/employee/createAsync")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/employee/createStatus?requestId=req-1"))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Create Employee Async Api When Queue Is Full")
+    public void givenFullQueue_whenCreateAsync_thenReturnTooManyRequests() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee employee = Employee.builder().name("Vedha").age(22).email("vedha@gmail.com").build();
+        given(employeeIngestionService.submitEmployee(any(Employee.class))).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(post("/api/employee/createAsync")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isTooManyRequests()).andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Create Status Api")
+    public void givenRequestId_whenGetCreateStatus_thenReturnStatus() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeIngestionService.getIngestionStatus("req-1"))
+                .willReturn(Optional.of(EmployeeIngestionStatus.builder().requestId("req-1").status(EmployeeIngestionStatus.Status.CREATED).id(5L).build()));
+        given(employeeIngestionService.getIngestionStatus("unknown")).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/createStatus").param("requestId", "req-1"));
+        ResultActions missing = mockMvc.perform(get("/api/employee/createStatus").param("requestId", "unknown"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.status", is("CREATED"))).andExpect(jsonPath("$.id", is(5)));
+        missing.andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("JUnit Test For Get All Employees Api")
     public void givenListEmployee_whenGetAllEmployee_thenReturnListEmployee() throws Exception {
@@ -85,6 +206,152 @@ class EmployeeControllerTests {
         perform.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.size()", is(build.size())));
     }
 
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Api As Smile")
+    public void givenSmileAccept_whenGetAllEmployee_thenReturnSmileListEmployee() throws Exception {
+
+        // given - pre-condition or setup data
+        List<Employee> build = List.of(
+                Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").build(),
+                Employee.builder().id(2L).name("Vedha2").age(23).email("Vedha2@gmail.com").build()
+        );
+        given(employeeService.getAllEmployee()).willReturn(build);
+
+        // when - action or the behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employee/getAll").accept(EmployeeMediaType.APPLICATION_SMILE)).andReturn();
+
+        // then - verify the output
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(EmployeeMediaType.APPLICATION_SMILE_VALUE);
+        List<Employee> employees = new SmileMapper().readValue(mvcResult.getResponse().getContentAsByteArray(), new TypeReference<>() {
+        });
+        assertThat(employees).extracting(Employee::getName).containsExactly("Vedha", "Vedha2");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id As CBOR")
+    public void givenCborAccept_whenFindById_thenReturnCborEmployeeVaryingByAccept() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(23).email("vedha@gmail.com").version(4L).build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employee/getById").param("employeeId", "1").accept(EmployeeMediaType.APPLICATION_CBOR)).andReturn();
+
+        // then - verify the output
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(EmployeeMediaType.APPLICATION_CBOR_VALUE);
+        assertThat(mvcResult.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(mvcResult.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-4-cbor\"");
+        Employee employee = new CBORMapper().readValue(mvcResult.getResponse().getContentAsByteArray(), Employee.class);
+        assertThat(employee.getName()).isEqualTo("Vedha");
+        assertThat(employee.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Api With Summary Projection")
+    public void givenSummaryProjection_whenGetAllEmployee_thenReturnIdAndNameOnly() throws Exception {
+
+        // given - pre-condition or setup data
+        List<EmployeeSummary> build = List.of(new EmployeeSummary(1L, "Vedha", 0L), new EmployeeSummary(2L, "Vedha2", 0L));
+        given(employeeService.getAllEmployee(EmployeeSummary.class)).willReturn(build);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAll").param("projection", "SUMMARY"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(build.size())))
+                .andExpect(jsonPath("$[0].name", is("Vedha")))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Paginated Api With Full Projection")
+    public void givenFullProjection_whenGetAllPaginated_thenReturnViewPage() throws Exception {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "age"));
+        given(employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.DESC, SortField.AGE, EmployeeView.class))
+                .willReturn(new PageImpl<>(List.of(new EmployeeView(1L, "Vedha", 22, "vedha@gmail.com", 0L)), pageRequest, 1));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAllPaginated")
+                .param("sortDirection", "DESC")
+                .param("sortField", "AGE")
+                .param("projection", "FULL"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].email", is("vedha@gmail.com")))
+                .andExpect(jsonPath("$.totalElements", is(1)));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Paginated Without Count")
+    public void givenCountNone_whenGetAllPaginated_thenReturnSliceWithoutTotal() throws Exception {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.ID, Employee.class, PageCount.NONE))
+                .willReturn(new SliceImpl<>(List.of(Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").version(0L).build(),
+                        Employee.builder().id(2L).name("Vedha2").age(23).email("vedha2@gmail.com").version(0L).build()), pageRequest, true));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAllPaginated").param("count", "NONE"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(2)))
+                .andExpect(jsonPath("$.last", is(false)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        verify(employeeService, never()).getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.ID);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Paginated With Approximate Count")
+    public void givenCountApproximate_whenGetAllPaginatedSummary_thenReturnEstimatedTotalTaggedFromRows() throws Exception {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        PageImpl<EmployeeSummary> page = new PageImpl<>(List.of(new EmployeeSummary(1L, "Vedha", 0L), new EmployeeSummary(2L, "Vedha2", 3L)), pageRequest, 1000);
+        given(employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.ID, EmployeeSummary.class, PageCount.APPROXIMATE)).willReturn(page);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAllPaginated").param("projection", "SUMMARY").param("count", "APPROXIMATE"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(1000)))
+                .andExpect(jsonPath("$.content[1].version").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, EmployeeETag.ofPage(page, EmployeeProjection.SUMMARY)));
+        verify(employeeService, never()).getAllEmployeePaginatedETag(anyInt(), anyInt(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Export Employees Api As CSV")
+    public void givenEmployees_whenExportAsCsv_thenStreamCsvRows() throws Exception {
+
+        // given - pre-condition or setup data
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(Employee.builder().id(1L).name("Vedha, V").age(22).email("vedha@gmail.com").build());
+            consumer.accept(Employee.builder().id(2L).name("Vedha2").age(23).email("Vedha2@gmail.com").build());
+            return null;
+        }).given(employeeService).exportAllEmployee(any());
+
+        // when - action or the behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employee/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        // then - verify the output
+        mockMvc.perform(asyncDispatch(mvcResult)).andDo(print()).andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,name,age,email\n1,\"Vedha, V\",22,vedha@gmail.com\n2,Vedha2,23,Vedha2@gmail.com\n"));
+    }
+
     @Test
     @DisplayName("JUnit Test For Find Employee By Id")
     public void givenEmployeeId_whenFindById_thenReturnEmployee() throws Exception {
@@ -106,6 +373,93 @@ class EmployeeControllerTests {
 
     }
 
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id With ETag")
+    public void givenEmployeeId_whenFindById_thenReturnETagAndCacheControl() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(23).email("vedha@gmail.com").version(4L).build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getById").param("employeeId", "1"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"))
+                .andExpect(jsonPath("$.version", is(4)));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id Not Modified")
+    public void givenMatchingIfNoneMatch_whenFindById_thenReturnNotModifiedWithoutLoading() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.getEmployeeVersion(1L)).willReturn(Optional.of(4L));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getById").param("employeeId", "1").header(HttpHeaders.IF_NONE_MATCH, "\"1-4\""));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(content().string(""));
+        verify(employeeService, never()).getEmployeeById(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id With Another Encoding's ETag")
+    public void givenJsonIfNoneMatch_whenFindByIdAsSmile_thenReturnSmileBodyAndETag() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(23).email("vedha@gmail.com").version(4L).build();
+        given(employeeService.getEmployeeVersion(1L)).willReturn(Optional.of(4L));
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employee/getById").param("employeeId", "1")
+                .accept(EmployeeMediaType.APPLICATION_SMILE).header(HttpHeaders.IF_NONE_MATCH, "\"1-4\"")).andReturn();
+
+        // then - verify the output
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(EmployeeMediaType.APPLICATION_SMILE_VALUE);
+        assertThat(mvcResult.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-4-smile\"");
+        assertThat(new SmileMapper().readValue(mvcResult.getResponse().getContentAsByteArray(), Employee.class).getName()).isEqualTo("Vedha");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id Preferring The Higher Quality Encoding")
+    public void givenWeightedAccept_whenFindById_thenReturnPreferredEncoding() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(23).email("vedha@gmail.com").version(4L).build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employee/getById").param("employeeId", "1")
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor")).andReturn();
+
+        // then - verify the output
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(EmployeeMediaType.APPLICATION_CBOR_VALUE);
+        assertThat(mvcResult.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-4-cbor\"");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Paginated Not Modified")
+    public void givenMatchingIfNoneMatch_whenGetAllPaginated_thenReturnNotModifiedWithoutLoading() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.getAllEmployeePaginatedETag(0, 2, Sort.Direction.ASC, SortField.ID, EmployeeProjection.ENTITY, PageCount.EXACT)).willReturn("W/\"p-1\"");
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAllPaginated").header(HttpHeaders.IF_NONE_MATCH, "W/\"p-1\""));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isNotModified()).andExpect(header().string(HttpHeaders.ETAG, "W/\"p-1\""));
+        verify(employeeService, never()).getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.ID);
+    }
+
     @Test
     @DisplayName("JUnit Test For Find By Id Empty Employee Negative")
     public void givenEmployeeId_whenFindById_thenReturnEmptyEmployee() throws Exception {
@@ -128,9 +482,7 @@ class EmployeeControllerTests {
         Employee vedha = Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").build();
         Employee vedha2 = Employee.builder().id(1L).name("Vedha2").age(23).email("Vedha2@gmail.com").build();
 
-        given(employeeService.getEmployeeById(vedha.getId())).willReturn(Optional.of(vedha));
-//        given(employeeService.updateEmployee(vedha2)).willReturn(vedha2);
-        given(employeeService.updateEmployee(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(employeeService.updateEmployeeById(eq(vedha.getId()), any(Employee.class))).willReturn(Optional.of(vedha2));
 
         // when - action or the behaviour that we are going to test
         ResultActions perform = mockMvc.perform(
@@ -155,8 +507,7 @@ class EmployeeControllerTests {
 
         // given - pre-condition or setup data
         Employee vedha2 = Employee.builder().id(1L).name("Vedha2").age(23).email("Vedha2@gmail.com").build();
-        given(employeeService.getEmployeeById(2L)).willReturn(Optional.empty());
-        given(employeeService.updateEmployee(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(employeeService.updateEmployeeById(eq(2L), any(Employee.class))).willReturn(Optional.empty());
 
         // when - action or the behaviour that we are going to test
         ResultActions perform = mockMvc.perform(
@@ -170,6 +521,95 @@ class EmployeeControllerTests {
         perform.andDo(print()).andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("JUnit Test For update Employee By Id With If-Match")
+    public void givenIfMatch_whenUpdateEmployeeById_thenConditionalUpdateAndNewETag() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(24).email("vedha@gmail.com").version(5L).build();
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class), eq(4L))).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(put("/api/employee/updateById").param("employeeId", "1")
+                .header(HttpHeaders.IF_MATCH, "\"1-4\"").contentType(MediaType.APPLICATION_JSON_VALUE).content("{\"age\": 24}"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-5\"")).andExpect(jsonPath("$.age", is(24)));
+        verify(employeeService, never()).updateEmployeeById(eq(1L), any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For update Employee By Id With Stale If-Match")
+    public void givenStaleIfMatch_whenUpdateEmployeeById_thenPreconditionFailedWithCurrentETag() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class), eq(4L))).willThrow(new EmployeeConflictException(1L, 6L, null));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(put("/api/employee/updateById").param("employeeId", "1")
+                .header(HttpHeaders.IF_MATCH, "\"1-4\"").contentType(MediaType.APPLICATION_JSON_VALUE).content("{\"age\": 24}"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isPreconditionFailed()).andExpect(header().string(HttpHeaders.ETAG, "\"1-6\""));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For update Employee By Id With CBOR If-Match")
+    public void givenCborIfMatch_whenUpdateEmployeeById_thenConditionalUpdate() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee vedha = Employee.builder().id(1L).name("Vedha").age(24).email("vedha@gmail.com").version(5L).build();
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class), eq(4L))).willReturn(Optional.of(vedha));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(put("/api/employee/updateById").param("employeeId", "1")
+                .header(HttpHeaders.IF_MATCH, "\"1-4-cbor\"").contentType(MediaType.APPLICATION_JSON_VALUE).content("{\"age\": 24}"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-5\""));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Patch Employee By Id With Weak If-Match")
+    public void givenWeakIfMatch_whenPatchEmployeeById_thenPreconditionFailedWithoutUpdate() throws Exception {
+
+        // given - pre-condition or setup data
+        // Weak validators never satisfy If-Match, and neither does another employee's tag
+
+        // when - action or the behaviour that we are going to test
+        ResultActions weak = mockMvc.perform(patch("/api/employee/patchById").param("employeeId", "1")
+                .header(HttpHeaders.IF_MATCH, "W/\"1-4\"").contentType(MediaType.APPLICATION_JSON_VALUE).content("{\"age\": 24}"));
+        ResultActions foreign = mockMvc.perform(patch("/api/employee/patchById").param("employeeId", "1")
+                .header(HttpHeaders.IF_MATCH, "\"2-4\"").contentType(MediaType.APPLICATION_JSON_VALUE).content("{\"age\": 24}"));
+
+        // then - verify the output
+        weak.andExpect(status().isPreconditionFailed());
+        foreign.andExpect(status().isPreconditionFailed());
+        verify(employeeService, never()).updateEmployeeById(eq(1L), any(Employee.class), any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Patch Employee By Id")
+    public void givenPartialEmployee_whenPatchEmployeeById_thenReturnUpdatedEmployee() throws Exception {
+
+        // given - pre-condition or setup data
+        Employee patched = Employee.builder().id(1L).name("Vedha").age(30).email("vedha@gmail.com").build();
+        given(employeeService.updateEmployeeById(eq(1L), any(Employee.class))).willReturn(Optional.of(patched));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(
+                patch("/api/employee/patchById")
+                        .param("employeeId", "1")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"age\": 30}")
+        );
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Vedha")))
+                .andExpect(jsonPath("$.age", is(30)));
+    }
+
     @Test
     @DisplayName("JUnit Test For Delete By Id")
     public void givenEmployee_whenDeleteById_thenReturnCount() throws Exception {
@@ -184,4 +624,150 @@ class EmployeeControllerTests {
         perform.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.deleteCount", is(1)));
     }
 
+    @Test
+    @DisplayName("JUnit Test For Get All Employees Keyset Paginated")
+    public void givenContinuationToken_whenGetAllKeysetPaginated_thenReturnWindow() throws Exception {
+
+        // given - pre-condition or setup data
+        EmployeeWindow window = EmployeeWindow.builder()
+                .content(List.of(Employee.builder().id(3L).name("Vedha3").age(24).email("vedha3@gmail.com").build()))
+                .size(1).hasNext(true).continuationToken("next").build();
+        given(employeeService.getAllEmployeeKeysetPaginated("token", 1, Sort.Direction.DESC, SortField.AGE)).willReturn(window);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/getAllKeysetPaginated")
+                .param("continuationToken", "token")
+                .param("pageSize", "1")
+                .param("sortDirection", "DESC")
+                .param("sortField", "AGE"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.continuationToken", is("next")));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Search Employees Api")
+    public void givenSearchParams_whenSearch_thenReturnPage() throws Exception {
+
+        // given - pre-condition or setup data
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().minAge(20).maxAge(30).namePrefix("Ved").emailDomain("gmail.com").build();
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "name", "id"));
+        given(employeeService.searchEmployee(criteria, 0, 2, Sort.Direction.ASC, SortField.NAME))
+                .willReturn(new PageImpl<>(List.of(Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").emailDomain("gmail.com").build()), pageRequest, 1));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/search")
+                .param("minAge", "20")
+                .param("maxAge", "30")
+                .param("namePrefix", "Ved")
+                .param("emailDomain", "gmail.com")
+                .param("sortField", "NAME"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Vedha")))
+                .andExpect(jsonPath("$.content[0].emailDomain").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Search Employees By Name Api")
+    public void givenQuery_whenSearchByName_thenReturnViews() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.searchEmployeeByName("ved", 5)).willReturn(List.of(new EmployeeView(1L, "Vedha", 22, "vedha@gmail.com", 0L)));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/searchByName").param("query", "ved").param("limit", "5"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].name", is("Vedha")));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employees By Ids")
+    public void givenEmployeeIds_whenGetByIds_thenReturnEmployeesKeyedByIdAndMissing() throws Exception {
+
+        // given - pre-condition or setup data
+        LinkedHashMap<Long, Employee> employees = new LinkedHashMap<>();
+        employees.put(1L, Employee.builder().id(1L).name("Vedha").age(22).email("vedha@gmail.com").version(0L).build());
+        given(employeeService.getEmployeeByIds(List.of(1L, 3L))).willReturn(EmployeeMultiGet.builder().employees(employees).missing(List.of(3L)).build());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(post("/api/employee/getByIds")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("[1, 3]"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees.1.name", is("Vedha")))
+                .andExpect(jsonPath("$.missing[0]", is(3)));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Search Employees By Name Limit Too Large Negative")
+    public void givenLimitAboveMax_whenSearchByName_thenBadRequest() throws Exception {
+
+        // given - pre-condition or setup data
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(get("/api/employee/searchByName").param("query", "ved").param("limit", String.valueOf(Integer.MAX_VALUE)));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isBadRequest());
+        verify(employeeService, never()).searchEmployeeByName(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employees By Ids Too Many Ids Negative")
+    public void givenTooManyEmployeeIds_whenGetByIds_thenBadRequest() throws Exception {
+
+        // given - pre-condition or setup data
+        String employeeIds = LongStream.rangeClosed(1, 1001).mapToObj(Long::toString).collect(Collectors.joining(",", "[", "]"));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(post("/api/employee/getByIds")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(employeeIds));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isBadRequest());
+        verify(employeeService, never()).getEmployeeByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Batch")
+    public void givenEmployeeIds_whenDeleteBatch_thenReturnCount() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.deleteEmployeeByIds(List.of(1L, 2L))).willReturn(2L);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(delete("/api/employee/deleteBatch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("[1, 2]"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.deleteCount", is(2)));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete By Age Range")
+    public void givenAgeRange_whenDeleteByAgeRange_thenReturnCount() throws Exception {
+
+        // given - pre-condition or setup data
+        given(employeeService.deleteEmployeeByAgeRange(20, 30)).willReturn(5L);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions perform = mockMvc.perform(delete("/api/employee/deleteByAgeRange").param("minAge", "20").param("maxAge", "30"));
+
+        // then - verify the output
+        perform.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.deleteCount", is(5)));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.vedha.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Waits are recorded straight into the acquire timer, the pools themselves run without metrics
+public class AdaptivePoolSizeControllerTests {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void tearDown() {
+
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Pool Growing While Callers Wait")
+    public void givenWaitAboveTarget_whenAdjust_thenPoolGrowsByStep() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = startedPool("grow", 10);
+        AdaptivePoolSizeController controller = controller(pool, 10, 50);
+        acquired(pool, 20, Duration.ofMillis(5));
+
+        // when - action or the behaviour that we are going to test
+        controller.adjust();
+
+        // then - verify the output
+        assertThat(pool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(15);
+        assertThat(meterRegistry.get("employee.datasource.pool.resizes").tag("direction", "grow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Pool Growth Capped At Max Size")
+    public void givenPoolNearMaxSize_whenAdjust_thenPoolStopsAtMaxSize() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = startedPool("cap", 18);
+        AdaptivePoolSizeController controller = controller(pool, 10, 20);
+
+        // when - action or the behaviour that we are going to test
+        acquired(pool, 20, Duration.ofMillis(5));
+        controller.adjust();
+        acquired(pool, 40, Duration.ofMillis(5));
+        controller.adjust();
+
+        // then - verify the output
+        assertThat(pool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Growth Without Throughput Gain Taken Back")
+    public void givenGrowthWithoutMoreAcquisitions_whenAdjust_thenPoolStepsBackAndHolds() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = startedPool("saturated", 10);
+        AdaptivePoolSizeController controller = controller(pool, 5, 50);
+
+        // when - action or the behaviour that we are going to test
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            acquired(pool, 20, Duration.ofMillis(5));
+            controller.adjust();
+            sizes.add(pool.getHikariConfigMXBean().getMaximumPoolSize());
+        }
+
+        // then - verify the output
+        assertThat(sizes).containsExactly(15, 10, 10, 10, 15);
+        assertThat(meterRegistry.get("employee.datasource.pool.resizes").tag("direction", "shrink").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Pool Shrinking After Quiet Intervals")
+    public void givenNoWaitForShrinkAfterIntervals_whenAdjust_thenPoolShrinksToMinSize() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = startedPool("shrink", 30);
+        AdaptivePoolSizeController controller = controller(pool, 22, 50);
+
+        // when - action or the behaviour that we are going to test
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            acquired(pool, 20, Duration.ofMillis(1));
+            controller.adjust();
+            sizes.add(pool.getHikariConfigMXBean().getMaximumPoolSize());
+        }
+
+        // then - verify the output
+        assertThat(sizes).containsExactly(30, 25, 25, 22, 22, 22);
+        assertThat(pool.getHikariConfigMXBean().getMinimumIdle()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Wait Resetting Quiet Intervals")
+    public void givenWaitBetweenQuietIntervals_whenAdjust_thenPoolDoesNotShrink() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = startedPool("reset", 30);
+        AdaptivePoolSizeController controller = controller(pool, 10, 30);
+
+        // when - action or the behaviour that we are going to test
+        controller.adjust();
+        acquired(pool, 20, Duration.ofMillis(5));
+        controller.adjust();
+        controller.adjust();
+
+        // then - verify the output
+        assertThat(pool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Pool Not Started Left Alone")
+    public void givenPoolNotStarted_whenAdjust_thenSizeUnchanged() {
+
+        // given - pre-condition or setup data
+        HikariDataSource pool = pool("lazy", 10);
+        AdaptivePoolSizeController controller = controller(pool, 10, 50);
+
+        // when - action or the behaviour that we are going to test
+        controller.adjust();
+
+        // then - verify the output
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(meterRegistry.find("employee.datasource.pool.resizes").counters()).isEmpty();
+    }
+
+    // Target wait 2ms, steps of 5, shrink after 2 quiet intervals
+    private AdaptivePoolSizeController controller(HikariDataSource pool, int minSize, int maxSize) {
+
+        return new AdaptivePoolSizeController(List.of(pool), meterRegistry, minSize, maxSize, Duration.ofMillis(2), 5, 2);
+    }
+
+    private void acquired(HikariDataSource pool, int connections, Duration wait) {
+
+        Timer acquire = meterRegistry.timer(AdaptivePoolSizeController.ACQUIRE_METER, "pool", pool.getPoolName());
+        for (int i = 0; i < connections; i++) acquire.record(wait);
+    }
+
+    private HikariDataSource startedPool(String name, int maximumPoolSize) throws SQLException {
+
+        HikariDataSource pool = pool(name, maximumPoolSize);
+        try (Connection ignored = pool.getConnection()) {
+            return pool;
+        }
+    }
+
+    private HikariDataSource pool(String name, int maximumPoolSize) {
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name);
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(maximumPoolSize);
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,178 @@
+package com.vedha.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each embedded database holds a single row naming itself, so a query tells which one served it
+public class ReadWriteRoutingDataSourceTests {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Read Only Transaction Routed To Replica")
+    public void givenReadOnlyTransaction_whenQuery_thenServedByReplica() {
+
+        // given - pre-condition or setup data
+        HikariDataSource primary = database("primary");
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary,
+                new ReplicaRoutingDataSource(List.of(database("replica")), primary, ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, Duration.ofSeconds(30)));
+
+        // when - action or the behaviour that we are going to test
+        String readOnly = queryInTransaction(routingDataSource, true);
+        String readWrite = queryInTransaction(routingDataSource, false);
+
+        // then - verify the output
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(readWrite).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Round Robin Replica Selection")
+    public void givenTwoReplicas_whenRoundRobin_thenAlternateReplicas() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource primary = database("primary");
+        ReplicaRoutingDataSource replicas = new ReplicaRoutingDataSource(List.of(database("replica1"), database("replica2")),
+                primary, ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, Duration.ofSeconds(30));
+
+        // when - action or the behaviour that we are going to test
+        List<String> served = List.of(query(replicas), query(replicas), query(replicas), query(replicas));
+
+        // then - verify the output
+        assertThat(served).containsExactly("replica1", "replica2", "replica1", "replica2");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Least Loaded Replica Selection")
+    public void givenBusyReplica_whenLeastLoaded_thenPickIdleReplica() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource primary = database("primary");
+        ReplicaRoutingDataSource replicas = new ReplicaRoutingDataSource(List.of(database("replica1"), database("replica2")),
+                primary, ReplicaRoutingDataSource.Strategy.LEAST_LOADED, Duration.ofSeconds(30));
+
+        // when - action or the behaviour that we are going to test
+        try (Connection busy = replicas.getConnection()) {
+
+            String held = name(busy);
+            List<String> served = List.of(query(replicas), query(replicas), query(replicas));
+
+            // then - verify the output
+            assertThat(held).isEqualTo("replica1");
+            assertThat(served).containsOnly("replica2");
+        }
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Fallback To Primary When Replica Is Down")
+    public void givenUnavailableReplica_whenReadOnlyTransaction_thenFallBackToPrimary() {
+
+        // given - pre-condition or setup data
+        HikariDataSource primary = database("primary");
+        HikariDataSource down = pool("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        down.setConnectionTimeout(250);
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary,
+                new ReplicaRoutingDataSource(List.of(down), primary, ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, Duration.ofSeconds(30)));
+
+        // when - action or the behaviour that we are going to test
+        String first = queryInTransaction(routingDataSource, true);
+        String second = queryInTransaction(routingDataSource, true);
+
+        // then - verify the output
+        assertThat(first).isEqualTo("primary");
+        assertThat(second).isEqualTo("primary");
+        assertThat(down.getHikariPoolMXBean().getTotalConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Exhausted Replica Pool Kept In Rotation")
+    public void givenExhaustedReplicaPool_whenGetConnection_thenPrimaryOnceAndReplicaAfterwards() throws SQLException {
+
+        // given - pre-condition or setup data
+        HikariDataSource primary = database("primary");
+        HikariDataSource replica = pool("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1");
+        replica.setMaximumPoolSize(1);
+        replica.setConnectionTimeout(250);
+        marker(replica, "replica");
+        ReplicaRoutingDataSource replicas = new ReplicaRoutingDataSource(List.of(replica), primary, ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, Duration.ofSeconds(30));
+
+        // when - action or the behaviour that we are going to test
+        String whileExhausted;
+        try (Connection ignored = replica.getConnection()) {
+            whileExhausted = query(replicas);
+        }
+        String afterwards = query(replicas);
+
+        // then - verify the output
+        assertThat(whileExhausted).isEqualTo("primary");
+        assertThat(afterwards).isEqualTo("replica");
+    }
+
+    private static String queryInTransaction(ReadWriteRoutingDataSource routingDataSource, boolean readOnly) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routingDataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(routingDataSource).queryForObject("select name from marker", String.class));
+    }
+
+    private static String query(ReplicaRoutingDataSource replicas) throws SQLException {
+
+        try (Connection connection = replicas.getConnection()) {
+
+            return name(connection);
+        }
+    }
+
+    private static String name(Connection connection) throws SQLException {
+
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select name from marker")) {
+
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private HikariDataSource database(String name) {
+
+        return marker(pool("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1"), name);
+    }
+
+    private static HikariDataSource marker(HikariDataSource dataSource, String name) {
+
+        new JdbcTemplate(dataSource).execute("create table if not exists marker (name varchar(20))");
+        new JdbcTemplate(dataSource).execute("delete from marker");
+        new JdbcTemplate(dataSource).update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+
+    private HikariDataSource pool(String url) {
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setPoolName(url);
+        dataSource.setInitializationFailTimeout(-1);
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,80 @@
+package com.vedha.integration;
+
+import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeException;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class EmployeeServiceITests extends AbstractContainerBaseTest {
+
+    private static final int CONCURRENT_CREATES = 8;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    // Service Integration Testing
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Concurrent Save Employee With Same Email")
+    public void givenSameEmailConcurrently_whenSaveEmployee_thenOnlyOneIsCreated() throws Exception {
+
+        // given - pre-condition or setup data
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_CREATES);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Employee>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CREATES; i++) {
+            Employee employee = Employee.builder().name("Vedha" + i).age(21).email("vedha@gmail.com").build();
+            Callable<Employee> create = () -> {
+                startLatch.await();
+                return employeeService.saveEmployee(employee);
+            };
+            futures.add(executorService.submit(create));
+        }
+
+        // when - action or the behaviour that we are going to test
+        startLatch.countDown();
+        int created = 0;
+        int rejected = 0;
+        for (Future<Employee> future : futures) {
+            try {
+                future.get();
+                created++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(EmployeeException.class);
+                rejected++;
+            }
+        }
+        executorService.shutdown();
+
+        // then - verify the output
+        assertThat(created).isEqualTo(1);
+        assertThat(rejected).isEqualTo(CONCURRENT_CREATES - 1);
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+}
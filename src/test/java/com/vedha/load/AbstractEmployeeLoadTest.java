@@ -0,0 +1,52 @@
+package com.vedha.load;
+
+import com.vedha.entity.Employee;
+import com.vedha.integration.AbstractContainerBaseTest;
+import com.vedha.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Closed loop load against a JDBC backed endpoint on the MySQL container, see ClosedLoopLoad
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public abstract class AbstractEmployeeLoadTest extends AbstractContainerBaseTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+        employeeRepository.saveAll(IntStream.range(0, 1000)
+                .mapToObj(i -> Employee.builder().name("Load" + i).age(20 + i % 40).email("load" + i + "@gmail.com").build())
+                .toList());
+    }
+
+    protected abstract String mode();
+
+    @Test
+    public void givenConcurrentClients_whenGetAllPaginated_thenReportThroughputAndP99() throws Exception {
+
+        long errors = ClosedLoopLoad.run(mode(), URI.create("http://localhost:" + port + ClosedLoopLoad.PAGINATED_URI));
+        PoolAcquireReport.print(mode(), meterRegistry);
+
+        assertThat(errors).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.vedha.load;
+
+import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeConflictException;
+import com.vedha.integration.AbstractContainerBaseTest;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// WRITERS concurrent read-modify-write increments on a few hot rows for DURATION, then throughput, p99 and give ups are printed.
+// Every successful increment must be visible in the end: a lost update would leave an age below its success count
+@Tag("load")
+@SpringBootTest
+public abstract class AbstractEmployeeUpdateContentionTest extends AbstractContainerBaseTest {
+
+    private static final int WRITERS = 32;
+
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+
+    private static final Duration DURATION = Duration.ofSeconds(10);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+    }
+
+    protected abstract String mode();
+
+    @Test
+    public void givenOneHotRow_whenConcurrentIncrements_thenNoLostUpdates() throws Exception {
+
+        contend(1);
+    }
+
+    @Test
+    public void givenThirtyTwoRows_whenConcurrentIncrements_thenNoLostUpdates() throws Exception {
+
+        contend(32);
+    }
+
+    private void contend(int rows) throws Exception {
+
+        List<Long> ids = employeeRepository.saveAll(IntStream.range(0, rows)
+                        .mapToObj(i -> Employee.builder().name("Hot" + i).age(0).email("hot" + i + "@gmail.com").build())
+                        .toList())
+                .stream().map(Employee::getId).toList();
+
+        run(ids, WARM_UP, new AtomicLongArray(rows), new ConcurrentLinkedQueue<>(), new AtomicLong());
+        ids.forEach(id -> employeeService.modifyEmployeeById(id, employee -> employee.setAge(0)));
+
+        AtomicLongArray increments = new AtomicLongArray(rows);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong gaveUp = new AtomicLong();
+        run(ids, DURATION, increments, latencies, gaveUp);
+
+        assertThat(latencies).as("successful updates").isNotEmpty();
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        double throughput = sorted.size() / (double) DURATION.toSeconds();
+        long p50 = sorted.get((int) (sorted.size() * 0.50)) / 1_000;
+        long p99 = sorted.get((int) (sorted.size() * 0.99)) / 1_000;
+        System.out.printf("[%s] writers=%d rows=%d updates=%d gave-up=%d throughput=%.0f updates/s p50=%d us p99=%d us%n",
+                mode(), WRITERS, rows, sorted.size(), gaveUp.get(), throughput, p50, p99);
+
+        for (int i = 0; i < rows; i++) {
+            assertThat(employeeRepository.findById(ids.get(i))).get().extracting(Employee::getAge).isEqualTo((int) increments.get(i));
+        }
+    }
+
+    private void run(List<Long> ids, Duration duration, AtomicLongArray increments, ConcurrentLinkedQueue<Long> latencies, AtomicLong gaveUp) throws Exception {
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService writers = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                futures.add(writers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        int row = ThreadLocalRandom.current().nextInt(ids.size());
+                        long start = System.nanoTime();
+                        try {
+                            employeeService.modifyEmployeeById(ids.get(row), employee -> employee.setAge(employee.getAge() + 1));
+                            latencies.add(System.nanoTime() - start);
+                            increments.incrementAndGet(row);
+                        } catch (EmployeeConflictException e) {
+                            gaveUp.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // Any other failure ends a writer early, get() rethrows it instead of letting the run pass with fewer writers
+            for (Future<?> future : futures) {
+                future.get(duration.toSeconds() + 60, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.vedha.load;
+
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MvcH2LoadTests with the adaptive pool on: same start size (10), resized every second, so the two runs differ only in the controller
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-adaptive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "employee.datasource.pool.adaptive.enabled=true",
+        "employee.datasource.pool.adaptive.interval=1s"
+})
+class AdaptivePoolH2LoadTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+        employeeRepository.saveAll(IntStream.range(0, 1000)
+                .mapToObj(i -> Employee.builder().name("Load" + i).age(20 + i % 40).email("load" + i + "@gmail.com").build())
+                .toList());
+    }
+
+    @Test
+    public void givenConcurrentClients_whenGetAllPaginated_thenReportThroughputAndP99() throws Exception {
+
+        long errors = ClosedLoopLoad.run("mvc-jdbc-h2-adaptive-pool", URI.create("http://localhost:" + port + ClosedLoopLoad.PAGINATED_URI));
+        PoolAcquireReport.print("mvc-jdbc-h2-adaptive-pool", meterRegistry);
+
+        assertThat(errors).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package com.vedha.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Closed loop load: CLIENTS concurrent callers hammer one GET for DURATION, then throughput and p50 / p99 are printed.
+// Kept byte for byte with the copy in reactive/ so the MVC and WebFlux numbers are comparable
+final class ClosedLoopLoad {
+
+    static final String PAGINATED_URI = "/api/employee/getAllPaginated?pageNumber=10&pageSize=20&sortField=AGE";
+
+    private static final int CLIENTS = 400;
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    private ClosedLoopLoad() {
+    }
+
+    // Returns the number of failed requests in the measured window
+    static long run(String mode, URI uri) throws InterruptedException {
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+        run(httpClient, uri, WARM_UP, new ConcurrentLinkedQueue<>(), new AtomicLong());
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        run(httpClient, uri, DURATION, latencies, errors);
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        assertThat(sorted).as("successful requests, %d failed", errors.get()).isNotEmpty();
+        double throughput = sorted.size() / (double) DURATION.toSeconds();
+        long p50 = sorted.get((int) (sorted.size() * 0.50)) / 1_000;
+        long p99 = sorted.get((int) (sorted.size() * 0.99)) / 1_000;
+        System.out.printf("[%s] clients=%d requests=%d errors=%d throughput=%.0f req/s p50=%d us p99=%d us%n",
+                mode, CLIENTS, sorted.size(), errors.get(), throughput, p50, p99);
+
+        return errors.get();
+    }
+
+    private static void run(HttpClient httpClient, URI uri, Duration duration, ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) throws InterruptedException {
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) latencies.add(System.nanoTime() - start);
+                            else errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.vedha.load;
+
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MVC + JDBC half of the side by side with reactive/ (ReactiveLoadTests): both run the same load against in-memory H2 in MySQL mode,
+// so the comparison needs no container and differs only in the stack
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class MvcH2LoadTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+        employeeRepository.saveAll(IntStream.range(0, 1000)
+                .mapToObj(i -> Employee.builder().name("Load" + i).age(20 + i % 40).email("load" + i + "@gmail.com").build())
+                .toList());
+    }
+
+    @Test
+    public void givenConcurrentClients_whenGetAllPaginated_thenReportThroughputAndP99() throws Exception {
+
+        long errors = ClosedLoopLoad.run("mvc-jdbc-h2", URI.create("http://localhost:" + port + ClosedLoopLoad.PAGINATED_URI));
+        PoolAcquireReport.print("mvc-jdbc-h2", meterRegistry);
+
+        assertThat(errors).isZero();
+    }
+}
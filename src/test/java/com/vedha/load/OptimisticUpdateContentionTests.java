@@ -0,0 +1,11 @@
+package com.vedha.load;
+
+// @Version checked UPDATE, conflicting writers re-read and retry with backoff
+class OptimisticUpdateContentionTests extends AbstractEmployeeUpdateContentionTest {
+
+    @Override
+    protected String mode() {
+
+        return "optimistic";
+    }
+}
@@ -0,0 +1,14 @@
+package com.vedha.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+// SELECT ... FOR UPDATE, conflicting writers wait on the row lock instead of retrying
+@TestPropertySource(properties = "employee.update.locking=pessimistic")
+class PessimisticUpdateContentionTests extends AbstractEmployeeUpdateContentionTest {
+
+    @Override
+    protected String mode() {
+
+        return "pessimistic";
+    }
+}
@@ -0,0 +1,14 @@
+package com.vedha.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+// Default Tomcat platform thread pool (200 threads), the pool sized like the virtual-threads profile so only the threading differs
+@TestPropertySource(properties = {"spring.datasource.hikari.maximum-pool-size=50", "spring.datasource.hikari.minimum-idle=50"})
+class PlatformThreadLoadTests extends AbstractEmployeeLoadTest {
+
+    @Override
+    protected String mode() {
+
+        return "platform-threads";
+    }
+}
@@ -0,0 +1,29 @@
+package com.vedha.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Prints the connection pool side of a load run: final pool size and the acquisition wait percentiles (warm-up included)
+final class PoolAcquireReport {
+
+    private PoolAcquireReport() {
+    }
+
+    static void print(String mode, MeterRegistry meterRegistry) {
+
+        for (Timer acquire : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+
+            String pool = acquire.getId().getTag("pool");
+            double maxSize = meterRegistry.get("hikaricp.connections.max").tag("pool", pool).gauge().value();
+            String percentiles = Arrays.stream(acquire.takeSnapshot().percentileValues())
+                    .map(value -> "p" + Math.round(value.percentile() * 100) + "=" + Math.round(value.value(TimeUnit.MICROSECONDS)) + " us")
+                    .collect(Collectors.joining(" "));
+            System.out.printf("[%s] pool=%s max-size=%.0f acquisitions=%d mean=%.0f us %s%n",
+                    mode, pool, maxSize, acquire.count(), acquire.mean(TimeUnit.MICROSECONDS), percentiles);
+        }
+    }
+}
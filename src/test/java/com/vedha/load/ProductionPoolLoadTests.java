@@ -0,0 +1,15 @@
+package com.vedha.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// Production profile on the MySQL container: prepared statement caching, batch rewriting and the adaptive pool,
+// against the fixed 50 connection pool of PlatformThreadLoadTests
+@ActiveProfiles("production")
+class ProductionPoolLoadTests extends AbstractEmployeeLoadTest {
+
+    @Override
+    protected String mode() {
+
+        return "production-pool";
+    }
+}
@@ -0,0 +1,16 @@
+package com.vedha.load;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// Same load with spring.threads.virtual.enabled, the pool pinned to the size PlatformThreadLoadTests uses
+@ActiveProfiles("virtual-threads")
+@TestPropertySource(properties = {"spring.datasource.hikari.maximum-pool-size=50", "spring.datasource.hikari.minimum-idle=50"})
+class VirtualThreadLoadTests extends AbstractEmployeeLoadTest {
+
+    @Override
+    protected String mode() {
+
+        return "virtual-threads";
+    }
+}
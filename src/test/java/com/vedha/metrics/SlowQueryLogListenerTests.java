@@ -0,0 +1,99 @@
+package com.vedha.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Events are captured on the logger itself, the console output behind the async appender arrives on another thread
+class SlowQueryLogListenerTests {
+
+    private final Logger sqlLogger = (Logger) LoggerFactory.getLogger("com.vedha.sql");
+
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+
+    @BeforeEach
+    public void setup() {
+
+        events.start();
+        sqlLogger.addAppender(events);
+    }
+
+    @AfterEach
+    public void tearDown() {
+
+        sqlLogger.detachAppender(events);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Slow Query Logged With Bind Parameters")
+    public void givenSlowStatement_whenAfterQuery_thenLogElapsedAndParams() throws NoSuchMethodException {
+
+        // given - pre-condition or setup data
+        SlowQueryLogListener slowQueryLogListener = new SlowQueryLogListener(Duration.ofMillis(100), 0);
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(250);
+        executionInfo.setSuccess(true);
+        QueryInfo queryInfo = new QueryInfo("select * from employees where email = ?");
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, "test@gmail.com"})));
+
+        // when - action or the behaviour that we are going to test
+        slowQueryLogListener.afterQuery(executionInfo, List.of(queryInfo));
+
+        // then - verify the output
+        assertThat(events.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+                .contains("slow_sql elapsed_ms=250").contains("params=[test@gmail.com]");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Slow Query Logging Null Bind Parameters")
+    public void givenSetNullParameter_whenAfterQuery_thenLogNullInsteadOfSqlType() throws NoSuchMethodException {
+
+        // given - pre-condition or setup data
+        SlowQueryLogListener slowQueryLogListener = new SlowQueryLogListener(Duration.ofMillis(100), 0);
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(250);
+        QueryInfo queryInfo = new QueryInfo("update employees set name = ?, age = ? where id = ?");
+        queryInfo.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, "Vedha"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{2, Types.INTEGER}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{3, 1L})));
+
+        // when - action or the behaviour that we are going to test
+        slowQueryLogListener.afterQuery(executionInfo, List.of(queryInfo));
+
+        // then - verify the output
+        assertThat(events.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+                .contains("params=[Vedha, null, 1]");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Fast Query Not Logged Without Sampling")
+    public void givenFastStatement_whenAfterQuery_thenNothingLogged() {
+
+        // given - pre-condition or setup data
+        SlowQueryLogListener slowQueryLogListener = new SlowQueryLogListener(Duration.ofMillis(100), 0);
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(5);
+
+        // when - action or the behaviour that we are going to test
+        slowQueryLogListener.afterQuery(executionInfo, List.of(new QueryInfo("select 1")));
+
+        // then - verify the output
+        assertThat(events.list).isEmpty();
+    }
+}
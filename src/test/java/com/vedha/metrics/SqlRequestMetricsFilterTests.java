@@ -0,0 +1,99 @@
+package com.vedha.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlRequestMetricsFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqlMetricsListener sqlMetricsListener;
+
+    private SqlRequestMetricsFilter sqlRequestMetricsFilter;
+
+    @BeforeEach
+    public void setup() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        sqlMetricsListener = new SqlMetricsListener(meterRegistry);
+        sqlRequestMetricsFilter = new SqlRequestMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Per Request SQL Statement Count")
+    public void givenStatementsDuringRequest_whenFilter_thenRecordCountPerUri() throws Exception {
+
+        // given - pre-condition or setup data
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/employee/updateById");
+        MockFilterChain filterChain = new MockFilterChain() {
+
+            @Override
+            public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse) {
+
+                servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employee/updateById");
+                execute("update employees set age=? where id=?");
+                execute("select * from employees where id=?");
+            }
+        };
+
+        // when - action or the behaviour that we are going to test
+        sqlRequestMetricsFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // then - verify the output
+        assertThat(meterRegistry.get("http.server.requests.sql.statements").tag("uri", "/api/employee/updateById").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("jdbc.statements").tag("type", "update").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jdbc.statements").tag("type", "select").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For SQL Statements Outside A Request")
+    public void givenStatementOutsideRequest_whenAfterQuery_thenOnlyStatementTimerRecorded() {
+
+        // when - action or the behaviour that we are going to test
+        execute("select 1");
+
+        // then - verify the output
+        assertThat(meterRegistry.get("jdbc.statements").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.server.requests.sql.statements").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Sub Millisecond Statement Timing")
+    public void givenStatementBelowOneMillisecond_whenAfterQuery_thenNanosecondsRecorded() {
+
+        // given - pre-condition or setup data
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        List<QueryInfo> queryInfoList = List.of(new QueryInfo("select 1"));
+        sqlMetricsListener.beforeQuery(executionInfo, queryInfoList);
+
+        // when - action or the behaviour that we are going to test
+        executionInfo.setElapsedTime(0);
+        sqlMetricsListener.afterQuery(executionInfo, queryInfoList);
+
+        // then - verify the output
+        assertThat(meterRegistry.get("jdbc.statements").timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    private void execute(String query) {
+
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        List<QueryInfo> queryInfoList = List.of(new QueryInfo(query));
+        sqlMetricsListener.beforeQuery(executionInfo, queryInfoList);
+        sqlMetricsListener.afterQuery(executionInfo, queryInfoList);
+    }
+}
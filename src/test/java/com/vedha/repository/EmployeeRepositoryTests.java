@@ -1,5 +1,7 @@
 package com.vedha.repository;
 
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeSummary;
 import com.vedha.entity.Employee;
 //import org.assertj.core.api.Assertions;
 import static org.assertj.core.api.Assertions.assertThat; // imported Class method as static
@@ -11,6 +13,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Optional;
@@ -204,4 +212,62 @@ public class EmployeeRepositoryTests extends AbstractContainerBaseTest {
         // then - verify the output
         assertThat(l).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("JUnit Test For Find All Employee By Keyset")
+    public void givenEmployees_whenFindAllByKeyset_thenReturnWindowsWithoutOverlap() {
+
+        // given - pre-condition or setup data
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().name("Test").age(13).email("test2@gmail.com").build());
+        employeeRepository.save(Employee.builder().name("Test3").age(14).email("test3@gmail.com").build());
+        Sort sort = Sort.by(Sort.Direction.ASC, "name", "id");
+
+        // when - action or the behaviour that we are going to test
+        Window<Employee> first = employeeRepository.findAllBy(ScrollPosition.keyset(), sort, Limit.of(2));
+        Window<Employee> second = employeeRepository.findAllBy(first.positionAt(first.size() - 1), sort, Limit.of(2));
+
+        // then - verify the output
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getContent().get(0).getName()).isEqualTo("Test3");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find All Employee Paginated As Projection With Version")
+    public void givenUpdatedEmployee_whenFindAllByProjection_thenRowsCarryVersion() {
+
+        // given - pre-condition or setup data
+        Employee save = employeeRepository.save(employee);
+        save.setAge(13);
+        employeeRepository.saveAndFlush(save);
+
+        // when - action or the behaviour that we are going to test
+        Page<EmployeeSummary> summaries = employeeRepository.findAllBy(PageRequest.of(0, 2, Sort.by("id")), EmployeeSummary.class);
+
+        // then - verify the output
+        assertThat(summaries.getContent()).containsExactly(new EmployeeSummary(save.getId(), "Test", 1L));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find All Employee By Search Specification")
+    public void givenEmployees_whenFindAllBySpecification_thenReturnMatchingPage() {
+
+        // given - pre-condition or setup data
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().name("Te_st").age(20).email("test2@Gmail.com").build());
+        employeeRepository.save(Employee.builder().name("Tester").age(40).email("test3@gmail.com").build());
+        employeeRepository.save(Employee.builder().name("Other").age(20).email("other@yahoo.com").build());
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().minAge(10).maxAge(30).namePrefix("Te").emailDomain("gmail.com").build();
+
+        // when - action or the behaviour that we are going to test
+        Page<Employee> page = employeeRepository.findAll(EmployeeSpecifications.matching(criteria), PageRequest.of(0, 10, Sort.by("age", "id")));
+        Page<Employee> literalUnderscore = employeeRepository.findAll(EmployeeSpecifications.nameStartsWith("Te_"), PageRequest.of(0, 10));
+
+        // then - verify the output
+        assertThat(page.getContent()).extracting(Employee::getName).containsExactly("Test", "Te_st");
+        assertThat(literalUnderscore.getContent()).extracting(Employee::getName).containsExactly("Te_st");
+    }
 }
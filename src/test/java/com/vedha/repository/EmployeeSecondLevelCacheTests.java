@@ -0,0 +1,247 @@
+package com.vedha.repository;
+
+import com.vedha.entity.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every repository call commits on its own (no test transaction), caches are only filled and invalidated on commit
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmployeeSecondLevelCacheTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    // Unrelated row, single row writes to employee must leave its cache entry alone
+    private Employee other;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeRepository.deleteAll();
+        employee = employeeRepository.save(Employee.builder().name("Test").age(12).email("test@gmail.com").build());
+        other = employeeRepository.save(Employee.builder().name("Other").age(20).email("other@gmail.com").build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Id From Second Level Cache")
+    public void givenCachedEmployee_whenFindById_thenNoStatement() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+
+        // when - action or the behaviour that we are going to test
+        Employee cached = employeeRepository.findById(employee.getId()).orElseThrow();
+
+        // then - verify the output
+        assertThat(cached.getName()).isEqualTo("Test");
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find All By Id Cached Reading Second Level Cache First")
+    public void givenOneCachedEmployee_whenFindAllByIdCached_thenOnlyUncachedIdsQueried() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+        statistics.clear();
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> employees = employeeRepository.findAllByIdCached(List.of(employee.getId(), other.getId(), -1L));
+
+        // then - verify the output
+        assertThat(employees).extracting(Employee::getId).containsExactly(employee.getId(), other.getId());
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Single Statement Update Evicting Only The Updated Employee")
+    public void givenCachedEmployees_whenUpdateEmployeeById_thenOnlyUpdatedEvicted() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findById(other.getId());
+
+        // when - action or the behaviour that we are going to test
+        int updateCount = employeeRepository.updateEmployeeById(employee.getId(), "Updated", null, null);
+
+        // then - verify the output
+        statistics.clear();
+        Employee updated = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertThat(updateCount).isEqualTo(1);
+        assertThat(updated.getName()).isEqualTo("Updated");
+        assertThat(updated.getVersion()).isEqualTo(employee.getVersion() + 1);
+        assertThat(employeeRepository.findById(other.getId())).get().extracting(Employee::getName).isEqualTo("Other");
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update With Stale Version Changing Nothing")
+    public void givenStaleVersion_whenUpdateEmployeeByIdAndVersion_thenNoRowUpdated() {
+
+        // given - pre-condition or setup data
+        employeeRepository.updateEmployeeById(employee.getId(), null, 13, null);
+
+        // when - action or the behaviour that we are going to test
+        int updateCount = employeeRepository.updateEmployeeByIdAndVersion(employee.getId(), employee.getVersion(), "Updated", null, null);
+
+        // then - verify the output
+        assertThat(updateCount).isZero();
+        assertThat(employeeRepository.findById(employee.getId())).get().extracting(Employee::getName, Employee::getAge).containsExactly("Test", 13);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Entity Update Refreshing Cached Employee")
+    public void givenCachedEmployee_whenModifyEmployee_thenCacheHoldsUpdated() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findById(other.getId());
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.modifyEmployee(employee.getId(), e -> e.setAge(30));
+
+        // then - verify the output
+        statistics.clear();
+        assertThat(employeeRepository.findById(employee.getId())).get().extracting(Employee::getAge).isEqualTo(30);
+        assertThat(employeeRepository.findById(other.getId())).get().extracting(Employee::getName).isEqualTo("Other");
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Evicting Cached Employee")
+    public void givenCachedEmployee_whenDeleteById_thenFindByIdEmpty() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findById(other.getId());
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.deleteById(employee.getId());
+
+        // then - verify the output
+        assertThat(employeeRepository.findById(employee.getId())).isEmpty();
+        statistics.clear();
+        assertThat(employeeRepository.findById(other.getId())).isPresent();
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete By Id Keeping Other Cached Employees")
+    public void givenCachedEmployees_whenDeleteEmployeeById_thenOtherStaysCached() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findById(other.getId());
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.deleteEmployeeById(employee.getId());
+
+        // then - verify the output
+        statistics.clear();
+        assertThat(employeeRepository.findById(other.getId())).isPresent();
+        assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Find Employee By Email From Query Cache")
+    public void givenCachedLookup_whenFindEmployeeByEmail_thenNoStatement() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findEmployeeByEmail(employee.getEmail());
+
+        // when - action or the behaviour that we are going to test
+        Employee cached = employeeRepository.findEmployeeByEmail(employee.getEmail()).orElseThrow();
+
+        // then - verify the output
+        assertThat(cached.getId()).isEqualTo(employee.getId());
+        assertThat(statistics.getQueryRegionStatistics(EmployeeRepository.LOOKUP_CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Invalidating Cached Email And Name Lookups")
+    public void givenCachedLookups_whenUpdateName_thenLookupsReflectUpdate() {
+
+        // given - pre-condition or setup data
+        String email = employee.getEmail();
+        employeeRepository.findByJPQLIndexParam(email, "Test");
+        employeeRepository.findByJPQLNamedParam(email, "Test");
+        employeeRepository.findByJPQLNativeIndexParam(email, "Test");
+        employeeRepository.findByJPQLNativeNamedParam(email, "Test");
+        employeeRepository.findByJPQLNamedParam(email, "Updated");
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.updateEmployeeById(employee.getId(), "Updated", null, null);
+
+        // then - verify the output
+        assertThat(employeeRepository.findByJPQLIndexParam(email, "Test")).isEmpty();
+        assertThat(employeeRepository.findByJPQLNamedParam(email, "Test")).isEmpty();
+        assertThat(employeeRepository.findByJPQLNativeIndexParam(email, "Test")).isEmpty();
+        assertThat(employeeRepository.findByJPQLNativeNamedParam(email, "Test")).isEmpty();
+        assertThat(employeeRepository.findByJPQLNamedParam(email, "Updated")).get().extracting(Employee::getName).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Invalidating Cached Email Lookup")
+    public void givenCachedLookup_whenDeleteById_thenFindEmployeeByEmailEmpty() {
+
+        // given - pre-condition or setup data
+        employeeRepository.findEmployeeByEmail(employee.getEmail());
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.deleteById(employee.getId());
+
+        // then - verify the output
+        assertThat(employeeRepository.findEmployeeByEmail(employee.getEmail())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For JDBC Batch Insert Invalidating Cached Empty Lookup")
+    public void givenCachedEmptyLookup_whenInsertAllEmployee_thenFindEmployeeByEmailFindsRow() {
+
+        // given - pre-condition or setup data
+        assertThat(employeeRepository.findEmployeeByEmail("batch@gmail.com")).isEmpty();
+
+        // when - action or the behaviour that we are going to test
+        employeeRepository.insertAllEmployee(List.of(Employee.builder().name("Batch").age(20).email("batch@gmail.com").build()));
+
+        // then - verify the output
+        assertThat(employeeRepository.findEmployeeByEmail("batch@gmail.com")).get().extracting(Employee::getName).isEqualTo("Batch");
+    }
+}
@@ -0,0 +1,75 @@
+package com.vedha.service;
+
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmailBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    public void setup() {
+
+        emailBloomFilter = new EmailBloomFilter(employeeRepository, 1000, 0.01, true);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Bloom Filter Before Warm Up")
+    public void givenColdFilter_whenMightContain_thenReturnTrue() {
+
+        // when - action or the behaviour that we are going to test
+        boolean mightContain = emailBloomFilter.mightContain("new@gmail.com");
+
+        // then - verify the output
+        assertThat(emailBloomFilter.isReady()).isFalse();
+        assertThat(mightContain).isTrue();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Bloom Filter After Warm Up")
+    public void givenWarmedFilter_whenMightContain_thenNoFalseNegatives() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.streamAllEmails()).willReturn(IntStream.range(0, 500).mapToObj(i -> "test" + i + "@gmail.com"));
+
+        // when - action or the behaviour that we are going to test
+        emailBloomFilter.warmUp();
+        emailBloomFilter.put("Added@Gmail.com");
+
+        // then - verify the output
+        assertThat(IntStream.range(0, 500)).allMatch(i -> emailBloomFilter.mightContain("test" + i + "@gmail.com"));
+        assertThat(emailBloomFilter.mightContain("added@gmail.com")).isTrue();
+        long falsePositives = IntStream.range(0, 1000).filter(i -> emailBloomFilter.mightContain("other" + i + "@gmail.com")).count();
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Bloom Filter Empty Table")
+    public void givenEmptyTable_whenWarmUp_thenEveryEmailIsNew() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.streamAllEmails()).willReturn(Stream.empty());
+
+        // when - action or the behaviour that we are going to test
+        emailBloomFilter.warmUp();
+
+        // then - verify the output
+        assertThat(emailBloomFilter.mightContain("test@gmail.com")).isFalse();
+    }
+}
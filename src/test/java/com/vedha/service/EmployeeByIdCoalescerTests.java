@@ -0,0 +1,162 @@
+package com.vedha.service;
+
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmployeeByIdCoalescer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeByIdCoalescerTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeByIdCoalescer employeeByIdCoalescer;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+
+        employeeByIdCoalescer.stop();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Concurrent Get By Id Coalesced Into One Query")
+    public void givenConcurrentLookups_whenFindById_thenOneInQueryAndPerCallerResults() throws Exception {
+
+        // given - pre-condition or setup data
+        employeeByIdCoalescer = new EmployeeByIdCoalescer(employeeRepository, Duration.ofMillis(500), 100, true, Duration.ofSeconds(5));
+        employeeByIdCoalescer.start();
+        List<Collection<Long>> queries = new ArrayList<>();
+        given(employeeRepository.findAllByIdCached(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> employeeIds = invocation.getArgument(0);
+            queries.add(employeeIds);
+            // Odd ids exist
+            return employeeIds.stream().filter(employeeId -> employeeId % 2 == 1)
+                    .map(employeeId -> Employee.builder().id(employeeId).name("Test" + employeeId).build()).toList();
+        });
+
+        // when - action or the behaviour that we are going to test
+        List<Future<Optional<Employee>>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long employeeId = 1; employeeId <= 10; employeeId++) {
+                long id = employeeId;
+                results.add(callers.submit(() -> employeeByIdCoalescer.findById(id)));
+            }
+            results.add(callers.submit(() -> employeeByIdCoalescer.findById(1L)));
+        }
+
+        // then - verify the output
+        assertThat(queries).hasSize(1);
+        assertThat(queries.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(results.get(i).get().map(Employee::getId)).isEqualTo(i % 2 == 0 ? Optional.of(i + 1L) : Optional.empty());
+        }
+        assertThat(results.get(10).get().map(Employee::getId)).contains(1L);
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Coalesced Get By Id Split At Max Batch Size")
+    @SuppressWarnings("unchecked")
+    public void givenMoreLookupsThanMaxBatch_whenFindById_thenSeveralQueries() throws Exception {
+
+        // given - pre-condition or setup data
+        employeeByIdCoalescer = new EmployeeByIdCoalescer(employeeRepository, Duration.ofMillis(500), 4, true, Duration.ofSeconds(5));
+        employeeByIdCoalescer.start();
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        given(employeeRepository.findAllByIdCached(anyCollection())).willAnswer(invocation -> {
+            batchSizes.add(((Collection<Long>) invocation.getArgument(0)).size());
+            return List.of();
+        });
+
+        // when - action or the behaviour that we are going to test
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long employeeId = 1; employeeId <= 10; employeeId++) {
+                long id = employeeId;
+                callers.submit(() -> employeeByIdCoalescer.findById(id));
+            }
+        }
+
+        // then - verify the output
+        assertThat(batchSizes).allMatch(batchSize -> batchSize <= 4);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Coalesced Get By Id Failure")
+    public void givenFailingQuery_whenFindById_thenCallerGetsTheException() {
+
+        // given - pre-condition or setup data
+        employeeByIdCoalescer = new EmployeeByIdCoalescer(employeeRepository, Duration.ofMillis(1), 100, true, Duration.ofSeconds(5));
+        employeeByIdCoalescer.start();
+        given(employeeRepository.findAllByIdCached(anyCollection())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when - action or the behaviour that we are going to test
+        Assertions.assertThrows(QueryTimeoutException.class, () -> employeeByIdCoalescer.findById(1L));
+
+        // then - verify the output
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Coalesced Get By Id Timeout")
+    public void givenSlowQuery_whenFindById_thenCallerTimesOut() {
+
+        // given - pre-condition or setup data
+        employeeByIdCoalescer = new EmployeeByIdCoalescer(employeeRepository, Duration.ofMillis(1), 100, true, Duration.ofMillis(100));
+        employeeByIdCoalescer.start();
+        given(employeeRepository.findAllByIdCached(anyCollection())).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return List.of();
+        });
+
+        // when - action or the behaviour that we are going to test
+        QueryTimeoutException timeout = Assertions.assertThrows(QueryTimeoutException.class, () -> employeeByIdCoalescer.findById(1L));
+
+        // then - verify the output
+        assertThat(timeout).hasMessageContaining("Employee 1");
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get By Id With Coalescing Disabled")
+    public void givenDisabledCoalescer_whenFindById_thenDirectLookup() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        employeeByIdCoalescer = new EmployeeByIdCoalescer(employeeRepository, Duration.ofMillis(1), 100, false, Duration.ofSeconds(5));
+        employeeByIdCoalescer.start();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(Employee.builder().id(1L).build()));
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> employee = employeeByIdCoalescer.findById(1L);
+
+        // then - verify the output
+        assertThat(employee).isPresent();
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+}
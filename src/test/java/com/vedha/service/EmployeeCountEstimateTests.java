@@ -0,0 +1,109 @@
+package com.vedha.service;
+
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmployeeCountEstimate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCountEstimateTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("JUnit Test For Count Estimate Maintained Between Refreshes")
+    public void givenCountedEstimate_whenCreatesAndDeletes_thenAdjustedWithoutCountQuery() {
+
+        // given - pre-condition or setup data
+        EmployeeCountEstimate employeeCountEstimate = new EmployeeCountEstimate(employeeRepository, Duration.ofMinutes(5));
+        given(employeeRepository.count()).willReturn(100L);
+
+        // when - action or the behaviour that we are going to test
+        long counted = employeeCountEstimate.get();
+        employeeCountEstimate.add(5);
+        employeeCountEstimate.add(-2);
+        long adjusted = employeeCountEstimate.get();
+
+        // then - verify the output
+        assertThat(counted).isEqualTo(100L);
+        assertThat(adjusted).isEqualTo(103L);
+        verify(employeeRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Count Estimate Recounted After Refresh Interval")
+    public void givenExpiredEstimate_whenGet_thenRecounted() {
+
+        // given - pre-condition or setup data
+        EmployeeCountEstimate employeeCountEstimate = new EmployeeCountEstimate(employeeRepository, Duration.ZERO);
+        given(employeeRepository.count()).willReturn(100L).willReturn(90L);
+
+        // when - action or the behaviour that we are going to test
+        employeeCountEstimate.get();
+        employeeCountEstimate.add(5);
+        long recounted = employeeCountEstimate.get();
+
+        // then - verify the output
+        assertThat(recounted).isEqualTo(90L);
+        verify(employeeRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Count Estimate Invalidated")
+    public void givenInvalidatedEstimate_whenGet_thenRecountedAndNeverNegative() {
+
+        // given - pre-condition or setup data
+        EmployeeCountEstimate employeeCountEstimate = new EmployeeCountEstimate(employeeRepository, Duration.ofMinutes(5));
+        given(employeeRepository.count()).willReturn(1L).willReturn(0L);
+
+        // when - action or the behaviour that we are going to test
+        employeeCountEstimate.get();
+        employeeCountEstimate.add(-3);
+        long clamped = employeeCountEstimate.get();
+        employeeCountEstimate.invalidate();
+        long recounted = employeeCountEstimate.get();
+
+        // then - verify the output
+        assertThat(clamped).isZero();
+        assertThat(recounted).isZero();
+        verify(employeeRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Count Estimate Counted Once By Concurrent First Readers")
+    public void givenUncountedEstimate_whenConcurrentGet_thenCountedOnce() throws Exception {
+
+        // given - pre-condition or setup data
+        EmployeeCountEstimate employeeCountEstimate = new EmployeeCountEstimate(employeeRepository, Duration.ofMinutes(5));
+        given(employeeRepository.count()).willAnswer(invocation -> {
+            Thread.sleep(50);
+            return 100L;
+        });
+
+        // when - action or the behaviour that we are going to test
+        List<Future<Long>> counts = new ArrayList<>();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) counts.add(readers.submit(employeeCountEstimate::get));
+        }
+
+        // then - verify the output
+        for (Future<Long> count : counts) assertThat(count.get()).isEqualTo(100L);
+        verify(employeeRepository, times(1)).count();
+    }
+}
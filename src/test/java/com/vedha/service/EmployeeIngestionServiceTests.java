@@ -0,0 +1,192 @@
+package com.vedha.service;
+
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeIngestionStatus;
+import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeException;
+import com.vedha.service.impl.EmployeeIngestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeIngestionServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeIngestionServiceImpl employeeIngestionService;
+
+    private Employee employee1;
+
+    private Employee employee2;
+
+    @BeforeEach
+    public void setup() {
+
+        // Not started, so submitted requests stay queued until the test starts the writer
+        employeeIngestionService = new EmployeeIngestionServiceImpl(employeeService, new SimpleMeterRegistry(), 2, 500, Duration.ofMillis(10), Duration.ofMinutes(1), 100);
+        employee1 = Employee.builder().name("Test1").age(21).email("test1@gmail.com").build();
+        employee2 = Employee.builder().name("Test2").age(22).email("test2@gmail.com").build();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+
+        employeeIngestionService.stop();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Submit Employee When Queue Is Full")
+    public void givenFullQueue_whenSubmitEmployee_thenReject() {
+
+        // given - pre-condition or setup data
+        employeeIngestionService.submitEmployee(employee1);
+        employeeIngestionService.submitEmployee(employee2);
+
+        // when - action or the behaviour that we are going to test
+        Optional<EmployeeIngestionStatus> rejected = employeeIngestionService.submitEmployee(Employee.builder().name("Test3").age(23).email("test3@gmail.com").build());
+
+        // then - verify the output
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Queued Employees Flushed As One Batch")
+    public void givenQueuedEmployees_whenWriterStarts_thenFlushOneBatchAndReportStatus() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        given(employeeService.saveAllEmployee(List.of(employee1, employee2))).willReturn(List.of(
+                EmployeeBatchResult.builder().index(0).email("test1@gmail.com").status(EmployeeBatchResult.Status.CREATED).id(1L).build(),
+                EmployeeBatchResult.builder().index(1).email("test2@gmail.com").status(EmployeeBatchResult.Status.FAILED).message("Employee Already Present: test2@gmail.com").build()));
+        EmployeeIngestionStatus queued1 = employeeIngestionService.submitEmployee(employee1).orElseThrow();
+        EmployeeIngestionStatus queued2 = employeeIngestionService.submitEmployee(employee2).orElseThrow();
+        assertThat(queued1.getStatus()).isEqualTo(EmployeeIngestionStatus.Status.QUEUED);
+
+        // when - action or the behaviour that we are going to test
+        employeeIngestionService.start();
+        employeeIngestionService.stop();
+
+        // then - verify the output
+        verify(employeeService, times(1)).saveAllEmployee(anyList());
+        assertThat(employeeIngestionService.getIngestionStatus(queued1.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus, EmployeeIngestionStatus::getId)
+                .containsExactly(EmployeeIngestionStatus.Status.CREATED, 1L);
+        assertThat(employeeIngestionService.getIngestionStatus(queued2.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus).isEqualTo(EmployeeIngestionStatus.Status.FAILED);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Queued Batch Retried After Concurrent Create Conflict")
+    public void givenConcurrentCreateConflict_whenFlush_thenRetryBatchOnce() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        given(employeeService.saveAllEmployee(List.of(employee1)))
+                .willThrow(new EmployeeException("Batch Conflicts With A Concurrent Create, Retry The Batch"))
+                .willReturn(List.of(EmployeeBatchResult.builder().index(0).email("test1@gmail.com").status(EmployeeBatchResult.Status.CREATED).id(1L).build()));
+        EmployeeIngestionStatus queued = employeeIngestionService.submitEmployee(employee1).orElseThrow();
+
+        // when - action or the behaviour that we are going to test
+        employeeIngestionService.start();
+        employeeIngestionService.stop();
+
+        // then - verify the output
+        verify(employeeService, times(2)).saveAllEmployee(List.of(employee1));
+        assertThat(employeeIngestionService.getIngestionStatus(queued.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus).isEqualTo(EmployeeIngestionStatus.Status.CREATED);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Queued Batch Saved Row By Row After Second Conflict")
+    public void givenRepeatedConcurrentCreateConflict_whenFlush_thenSaveEachEmployee() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        given(employeeService.saveAllEmployee(List.of(employee1, employee2)))
+                .willThrow(new EmployeeException("Batch Conflicts With A Concurrent Create, Retry The Batch"));
+        given(employeeService.saveEmployee(employee1)).willReturn(Employee.builder().id(1L).build());
+        given(employeeService.saveEmployee(employee2)).willThrow(new EmployeeException("Employee Already Present: test2@gmail.com"));
+        EmployeeIngestionStatus queued1 = employeeIngestionService.submitEmployee(employee1).orElseThrow();
+        EmployeeIngestionStatus queued2 = employeeIngestionService.submitEmployee(employee2).orElseThrow();
+
+        // when - action or the behaviour that we are going to test
+        employeeIngestionService.start();
+        employeeIngestionService.stop();
+
+        // then - verify the output
+        verify(employeeService, times(2)).saveAllEmployee(List.of(employee1, employee2));
+        assertThat(employeeIngestionService.getIngestionStatus(queued1.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus, EmployeeIngestionStatus::getId)
+                .containsExactly(EmployeeIngestionStatus.Status.CREATED, 1L);
+        assertThat(employeeIngestionService.getIngestionStatus(queued2.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus, EmployeeIngestionStatus::getMessage)
+                .containsExactly(EmployeeIngestionStatus.Status.FAILED, "Employee Already Present: test2@gmail.com");
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Queued Batch Saved Row By Row After A Bad Row")
+    public void givenBatchRejectedForOneRow_whenFlush_thenOnlyThatRowFails() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        given(employeeService.saveAllEmployee(List.of(employee1, employee2))).willThrow(new DataIntegrityViolationException("Value too long for column name"));
+        given(employeeService.saveEmployee(employee1)).willReturn(Employee.builder().id(1L).build());
+        given(employeeService.saveEmployee(employee2)).willThrow(new DataIntegrityViolationException("Value too long for column name"));
+        EmployeeIngestionStatus queued1 = employeeIngestionService.submitEmployee(employee1).orElseThrow();
+        EmployeeIngestionStatus queued2 = employeeIngestionService.submitEmployee(employee2).orElseThrow();
+
+        // when - action or the behaviour that we are going to test
+        employeeIngestionService.start();
+        employeeIngestionService.stop();
+
+        // then - verify the output
+        verify(employeeService, times(1)).saveAllEmployee(List.of(employee1, employee2));
+        assertThat(employeeIngestionService.getIngestionStatus(queued1.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus, EmployeeIngestionStatus::getId)
+                .containsExactly(EmployeeIngestionStatus.Status.CREATED, 1L);
+        assertThat(employeeIngestionService.getIngestionStatus(queued2.getRequestId())).get()
+                .extracting(EmployeeIngestionStatus::getStatus).isEqualTo(EmployeeIngestionStatus.Status.FAILED);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Submit Employee After Stop")
+    public void givenStoppedService_whenSubmitEmployee_thenReject() throws InterruptedException {
+
+        // given - pre-condition or setup data
+        employeeIngestionService.start();
+        employeeIngestionService.stop();
+
+        // when - action or the behaviour that we are going to test
+        Optional<EmployeeIngestionStatus> rejected = employeeIngestionService.submitEmployee(employee1);
+
+        // then - verify the output
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Ingestion Status Negative")
+    public void givenUnknownRequestId_whenGetIngestionStatus_thenReturnEmpty() {
+
+        // given - pre-condition or setup data
+
+        // when - action or the behaviour that we are going to test
+        Optional<EmployeeIngestionStatus> status = employeeIngestionService.getIngestionStatus("unknown");
+
+        // then - verify the output
+        assertThat(status).isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.vedha.service;
+
+import com.vedha.dto.EmployeeView;
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmployeeNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeNameIndexTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeNameIndex employeeNameIndex;
+
+    @BeforeEach
+    public void setup() {
+
+        employeeNameIndex = new EmployeeNameIndex(employeeRepository, true, 0.5);
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(Employee.builder().id(1L).name("Vedha Sarath").age(22).email("vedha.s@gmail.com").build());
+            consumer.accept(Employee.builder().id(2L).name("Sarah Connor").age(30).email("sconnor@yahoo.com").build());
+            consumer.accept(Employee.builder().id(3L).name("Vedant").age(40).email("vedant@gmail.com").build());
+            return null;
+        }).given(employeeRepository).streamAllEmployee(any());
+        employeeNameIndex.warmUp();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Prefix Search")
+    public void givenWarmedIndex_whenPrefixSearch_thenReturnMatchesByName() {
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> ved = employeeNameIndex.search("Ved", 10);
+        List<EmployeeView> sar = employeeNameIndex.search("sar", 10);
+
+        // then - verify the output
+        assertThat(employeeNameIndex.isReady()).isTrue();
+        // Shortest completion first: "vedant" before "vedha", "sarah" before "sarath"
+        assertThat(ved).extracting(EmployeeView::getId).containsExactly(3L, 1L);
+        assertThat(sar).extracting(EmployeeView::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Prefix Search Limit")
+    public void givenLimit_whenPrefixSearch_thenStopAtLimit() {
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> ved = employeeNameIndex.search("ved", 1);
+
+        // then - verify the output
+        assertThat(ved).extracting(EmployeeView::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Search With Huge Limit")
+    public void givenHugeLimit_whenSearch_thenReturnAllMatches() {
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> ved = employeeNameIndex.search("ved", Integer.MAX_VALUE);
+
+        // then - verify the output
+        assertThat(ved).extracting(EmployeeView::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Fuzzy Search")
+    public void givenTypo_whenSearch_thenReturnClosestMatchFirst() {
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> typo = employeeNameIndex.search("connorr", 10);
+        List<EmployeeView> email = employeeNameIndex.search("yahoo.com", 10);
+
+        // then - verify the output
+        assertThat(typo).extracting(EmployeeView::getId).containsExactly(2L);
+        assertThat(email).extracting(EmployeeView::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Kept In Sync")
+    public void givenUpdateAndDelete_whenSearch_thenReflectLatestState() {
+
+        // when - action or the behaviour that we are going to test
+        employeeNameIndex.put(Employee.builder().id(3L).name("Priya").age(40).email("priya@gmail.com").build());
+        employeeNameIndex.remove(1L);
+
+        // then - verify the output
+        assertThat(employeeNameIndex.search("ved", 10)).isEmpty();
+        assertThat(employeeNameIndex.search("priya", 10)).extracting(EmployeeView::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Warm Up Not Overwriting Concurrent Writes")
+    public void givenWritesDuringWarmUp_whenSnapshotRowsArrive_thenWritesKept() {
+
+        // given - pre-condition or setup data
+        EmployeeNameIndex warming = new EmployeeNameIndex(employeeRepository, true, 0.5);
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            // Written and committed after the snapshot was taken, before its rows were streamed
+            warming.put(Employee.builder().id(1L).name("Priya").age(22).email("priya@gmail.com").build());
+            warming.remove(2L);
+            warming.removeByAgeRange(35, 45);
+            consumer.accept(Employee.builder().id(1L).name("Vedha Sarath").age(22).email("vedha.s@gmail.com").build());
+            consumer.accept(Employee.builder().id(2L).name("Sarah Connor").age(30).email("sconnor@yahoo.com").build());
+            consumer.accept(Employee.builder().id(3L).name("Vedant").age(40).email("vedant@gmail.com").build());
+            return null;
+        }).given(employeeRepository).streamAllEmployee(any());
+
+        // when - action or the behaviour that we are going to test
+        warming.warmUp();
+        warming.put(Employee.builder().id(2L).name("Sarah Connor").age(30).email("sconnor@yahoo.com").build());
+
+        // then - verify the output
+        assertThat(warming.search("ved", 10)).isEmpty();
+        assertThat(warming.search("priya", 10)).extracting(EmployeeView::getId).containsExactly(1L);
+        assertThat(warming.search("sarah", 10)).extracting(EmployeeView::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Name Index Deferred Until Commit")
+    public void givenActiveTransaction_whenPut_thenIndexOnlyAfterCommit() {
+
+        // given - pre-condition or setup data
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+
+            // when - action or the behaviour that we are going to test
+            employeeNameIndex.put(Employee.builder().id(4L).name("Karthik").age(25).email("karthik@gmail.com").build());
+            List<EmployeeView> beforeCommit = employeeNameIndex.search("karthik", 10);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then - verify the output
+            assertThat(beforeCommit).isEmpty();
+            assertThat(employeeNameIndex.search("karthik", 10)).extracting(EmployeeView::getId).containsExactly(4L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
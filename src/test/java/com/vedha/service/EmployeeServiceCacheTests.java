@@ -0,0 +1,138 @@
+package com.vedha.service;
+
+import com.vedha.config.CacheConfig;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.entity.Employee;
+import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmailBloomFilter;
+import com.vedha.service.impl.EmployeeByIdCoalescer;
+import com.vedha.service.impl.EmployeeCountEstimate;
+import com.vedha.service.impl.EmployeeNameIndex;
+import com.vedha.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = {EmployeeServiceImpl.class, EmailBloomFilter.class, EmployeeNameIndex.class, EmployeeByIdCoalescer.class, EmployeeCountEstimate.class, CacheConfig.class},
+        properties = {"spring.cache.cache-names=employee", "employee.get-by-id.coalesce.enabled=false"})
+@ImportAutoConfiguration(CacheAutoConfiguration.class) // Loads Only The Service With The Caffeine Cache Manager
+class EmployeeServiceCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    // Service Cache Testing
+
+    @BeforeEach
+    public void setup() {
+
+        employee = Employee.builder().id(1L).name("Test").age(21).email("test@gmail.com").build();
+        cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE).clear();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employee By Id Served From Cache")
+    public void givenCachedEmployee_whenGetById_thenRepositoryCalledOnce() {
+
+        // when - action or the behaviour that we are going to test
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> cached = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(cached).contains(employee);
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employee By Id Miss Not Cached")
+    public void givenMissingEmployee_whenGetById_thenMissNotCached() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.findById(2L)).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        employeeService.getEmployeeById(2L);
+        Optional<Employee> missing = employeeService.getEmployeeById(2L);
+
+        // then - verify the output
+        assertThat(missing).isEmpty();
+        verify(employeeRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee Evicts Cache")
+    public void givenCachedEmployee_whenUpdate_thenCacheEvicted() {
+
+        // given - pre-condition or setup data
+        employeeService.getEmployeeById(1L);
+        given(employeeRepository.save(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when - action or the behaviour that we are going to test
+        employeeService.updateEmployee(employee);
+        employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee Evicts Cache")
+    public void givenCachedEmployee_whenDelete_thenCacheEvicted() {
+
+        // given - pre-condition or setup data
+        employeeService.getEmployeeById(1L);
+        given(employeeRepository.deleteEmployeeById(1L)).willReturn(1L);
+
+        // when - action or the behaviour that we are going to test
+        employeeService.deleteEmployeeById(1L);
+        employeeService.deleteEmployeeByIdNoReturn(1L);
+        employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employee By Ids Shares The Id Cache")
+    public void givenCachedEmployee_whenGetByIds_thenOnlyUncachedLoadedAndCached() {
+
+        // given - pre-condition or setup data
+        Employee employee2 = Employee.builder().id(2L).name("Test2").age(22).email("test2@gmail.com").build();
+        employeeService.getEmployeeById(1L);
+        given(employeeRepository.findAllById(List.of(2L))).willReturn(List.of(employee2));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeMultiGet multiGet = employeeService.getEmployeeByIds(List.of(1L, 2L));
+        Optional<Employee> cached = employeeService.getEmployeeById(2L);
+
+        // then - verify the output
+        assertThat(multiGet.getEmployees()).containsKeys(1L, 2L);
+        assertThat(cached).contains(employee2);
+        verify(employeeRepository, times(1)).findAllById(List.of(2L));
+        verify(employeeRepository, times(0)).findById(2L);
+    }
+}
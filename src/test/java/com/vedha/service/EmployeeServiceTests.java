@@ -1,9 +1,24 @@
 package com.vedha.service;
 
+import com.vedha.dto.EmployeeBatchResult;
+import com.vedha.dto.EmployeeMultiGet;
+import com.vedha.dto.EmployeeSearchCriteria;
+import com.vedha.dto.EmployeeSummary;
+import com.vedha.dto.EmployeeVersion;
+import com.vedha.dto.EmployeeWindow;
 import com.vedha.entity.Employee;
+import com.vedha.exception.EmployeeConflictException;
 import com.vedha.exception.EmployeeException;
 import com.vedha.repository.EmployeeRepository;
+import com.vedha.service.impl.EmailBloomFilter;
+import com.vedha.service.impl.EmployeeByIdCoalescer;
+import com.vedha.service.impl.EmployeeCountEstimate;
+import com.vedha.service.impl.EmployeeNameIndex;
 import com.vedha.service.impl.EmployeeServiceImpl;
+import com.vedha.utill.EmployeeETag;
+import com.vedha.utill.EmployeeProjection;
+import com.vedha.utill.PageCount;
+import com.vedha.utill.SortField;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,17 +30,41 @@ import org.mockito.Mock;
 
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTests {
@@ -33,6 +72,21 @@ class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @Mock
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Mock
+    private EmployeeByIdCoalescer employeeByIdCoalescer;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EmployeeCountEstimate employeeCountEstimate;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -57,7 +111,6 @@ class EmployeeServiceTests {
         // Mocking the employeeService.saveEmployee() method internal employeeRepository methods
         // Behaviour Driven Development
         // Stub Data
-        given(employeeRepository.findEmployeeByEmail(employee.getEmail())).willReturn(Optional.empty());
         given(employeeRepository.save(employee)).willReturn(employee);
 
         System.out.println(employeeRepository);
@@ -79,13 +132,95 @@ class EmployeeServiceTests {
         // Mocking the employeeService.saveEmployee() method internal employeeRepository methods
         // Behaviour Driven Development
         //Stub Data
-        given(employeeRepository.findEmployeeByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+        given(employeeRepository.save(employee)).willThrow(new DuplicateKeyException("Duplicate entry for key 'uk_employees_email'"));
 
         // when - action or the behaviour that we are going to test
         Assertions.assertThrows(EmployeeException.class, () -> employeeService.saveEmployee(employee));
 
         // then -verify the output
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).findEmployeeByEmail(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee With Other Constraint Violation")
+    public void givenTooLongName_whenSave_thenViolationSurfaces() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.save(employee)).willThrow(new DataIntegrityViolationException("Data too long for column 'name'"));
+
+        // when - action or the behaviour that we are going to test
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> employeeService.saveEmployee(employee));
+
+        // then -verify the output
+        verify(emailBloomFilter, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save All Employee In Batch")
+    public void givenEmployeeBatch_whenSaveAll_thenReturnPerRowResults() {
+
+        // given - pre-condition or setup data
+        Employee existing = Employee.builder().name("Test2").age(22).email("test2@gmail.com").build();
+        Employee duplicate = Employee.builder().name("Test3").age(23).email("test@gmail.com").build();
+        Employee invalid = Employee.builder().name("Test4").email("test4@gmail.com").build();
+        employee.setId(null);
+        given(emailBloomFilter.mightContain(anyString())).willReturn(true);
+        given(employeeRepository.findExistingEmails(anyCollection())).willReturn(List.of("test2@gmail.com"));
+        given(employeeRepository.insertAllEmployee(List.of(employee))).willAnswer(invocation -> {
+            employee.setId(10L);
+            return List.of(employee);
+        });
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveAllEmployee(List.of(employee, existing, duplicate, invalid));
+
+        // then - verify the output
+        assertThat(results).extracting(EmployeeBatchResult::getStatus).containsExactly(EmployeeBatchResult.Status.CREATED,
+                EmployeeBatchResult.Status.FAILED, EmployeeBatchResult.Status.FAILED, EmployeeBatchResult.Status.FAILED);
+        assertThat(results.get(0).getId()).isEqualTo(10L);
+        verify(employeeRepository, Mockito.times(1)).findExistingEmails(anyCollection());
+        verify(employeeRepository, never()).findEmployeeByEmail(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save All Employee Comparing Emails Ignoring Case")
+    public void givenEmailsDifferingOnlyInCase_whenSaveAll_thenReportedPerRow() {
+
+        // given - pre-condition or setup data
+        Employee existing = Employee.builder().name("Test2").age(22).email("Test2@Gmail.com").build();
+        Employee duplicate = Employee.builder().name("Test3").age(23).email("TEST@gmail.com").build();
+        employee.setId(null);
+        given(emailBloomFilter.mightContain(anyString())).willReturn(true);
+        given(employeeRepository.findExistingEmails(anyCollection())).willReturn(List.of("test2@gmail.com"));
+        given(employeeRepository.insertAllEmployee(List.of(employee))).willReturn(List.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveAllEmployee(List.of(employee, existing, duplicate));
+
+        // then - verify the output
+        assertThat(results).extracting(EmployeeBatchResult::getStatus).containsExactly(EmployeeBatchResult.Status.CREATED,
+                EmployeeBatchResult.Status.FAILED, EmployeeBatchResult.Status.FAILED);
+        assertThat(results).extracting(EmployeeBatchResult::getMessage).containsExactly(null,
+                "Employee Already Present: Test2@Gmail.com", "Duplicate Email In Batch: TEST@gmail.com");
+        verify(employeeRepository).insertAllEmployee(List.of(employee));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save All Employee With Unseen Emails")
+    public void givenUnseenEmails_whenSaveAll_thenSkipExistingEmailLookup() {
+
+        // given - pre-condition or setup data
+        employee.setId(null);
+        given(emailBloomFilter.mightContain(employee.getEmail())).willReturn(false);
+        given(employeeRepository.insertAllEmployee(List.of(employee))).willReturn(List.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveAllEmployee(List.of(employee));
+
+        // then - verify the output
+        assertThat(results).extracting(EmployeeBatchResult::getStatus).containsExactly(EmployeeBatchResult.Status.CREATED);
+        verify(employeeRepository, never()).findExistingEmails(anyCollection());
+        verify(emailBloomFilter).put(employee.getEmail());
     }
 
     @Test
@@ -123,13 +258,35 @@ class EmployeeServiceTests {
         assertThat(allEmployee).hasSize(0);
     }
 
+    @Test
+    @DisplayName("JUnit Test For Export All Employee")
+    public void givenEmployees_whenExportAll_thenStreamEachEmployee() {
+
+        // given - pre-condition or setup data
+        Employee employee1 = Employee.builder().id(2L).name("Test2").age(21).email("test2@gmail.com").build();
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(employee);
+            consumer.accept(employee1);
+            return null;
+        }).given(employeeRepository).streamAllEmployee(any());
+        List<Employee> exported = new ArrayList<>();
+
+        // when - action or the behaviour that we are going to test
+        employeeService.exportAllEmployee(exported::add);
+
+        // then - verify the output
+        assertThat(exported).containsExactly(employee, employee1);
+        verify(employeeRepository, never()).findAll();
+    }
+
     @Test
     @DisplayName("JUnit Test For Get Employee By Id")
     public void givenEmployeeId_whenFindById_thenReturnEmployee() {
 
         // given - pre-condition or setup data
         // Stub Data
-        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeByIdCoalescer.findById(1L)).willReturn(Optional.of(employee));
 
         // when - action or the behaviour that we are going to test
         Optional<Employee> employeeById = employeeService.getEmployeeById(1L);
@@ -139,6 +296,49 @@ class EmployeeServiceTests {
         assertThat(employeeById).isPresent();
     }
 
+    @Test
+    @DisplayName("JUnit Test For Get Employee By Ids")
+    public void givenCachedAndMissingIds_whenGetEmployeeByIds_thenOneQueryForUncachedAndExplicitMisses() {
+
+        // given - pre-condition or setup data
+        Employee employee2 = Employee.builder().id(2L).name("Test2").age(22).email("test2@gmail.com").build();
+        ConcurrentMapCache cache = new ConcurrentMapCache("employee");
+        cache.put(1L, employee);
+        given(cacheManager.getCache("employee")).willReturn(cache);
+        given(employeeRepository.findAllById(List.of(3L, 2L))).willReturn(List.of(employee2));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeMultiGet multiGet = employeeService.getEmployeeByIds(List.of(3L, 1L, 2L, 1L));
+
+        // then - verify the output
+        assertThat(multiGet.getEmployees()).containsExactly(Map.entry(1L, employee), Map.entry(2L, employee2));
+        assertThat(multiGet.getMissing()).containsExactly(3L);
+        assertThat(cache.get(2L, Employee.class)).isEqualTo(employee2);
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get Employee By Ids In Chunks")
+    @SuppressWarnings("unchecked")
+    public void givenManyIds_whenGetEmployeeByIds_thenChunkedInLists() {
+
+        // given - pre-condition or setup data
+        List<Long> employeeIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+        given(employeeRepository.findAllById(any(Iterable.class))).willAnswer(invocation -> {
+            chunkSizes.add(((List<Long>) invocation.getArgument(0)).size());
+            return List.of();
+        });
+
+        // when - action or the behaviour that we are going to test
+        EmployeeMultiGet multiGet = employeeService.getEmployeeByIds(employeeIds);
+
+        // then - verify the output
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(multiGet.getEmployees()).isEmpty();
+        assertThat(multiGet.getMissing()).hasSize(2500);
+    }
+
     @Test
     @DisplayName("JUnit Test For update Employee")
     public void givenEmployee_whenUpdateEmployee_thenReturnUpdatedEmployee() {
@@ -155,6 +355,128 @@ class EmployeeServiceTests {
         assertThat(employee1.getName()).isEqualTo("Vedha");
     }
 
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id")
+    public void givenEmployeeId_whenUpdateEmployeeById_thenSingleUpdateAndReturnRow() {
+
+        // given - pre-condition or setup data
+        Employee patch = Employee.builder().age(30).build();
+        given(employeeRepository.updateEmployeeById(1L, null, 30, null)).willReturn(1);
+        employee.setAge(30);
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> updated = employeeService.updateEmployeeById(1L, patch);
+
+        // then - verify the output
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getAge()).isEqualTo(30);
+        verify(employeeNameIndex).put(employee);
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).modifyEmployee(any(), any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id Negative")
+    public void givenMissingEmployeeId_whenUpdateEmployeeById_thenReturnEmpty() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.updateEmployeeById(2L, "Vedha", 30, "vedha@gmail.com")).willReturn(0);
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> updated = employeeService.updateEmployeeById(2L, Employee.builder().name("Vedha").age(30).email("vedha@gmail.com").build());
+
+        // then - verify the output
+        assertThat(updated).isEmpty();
+        verify(employeeRepository, never()).findById(2L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id With Stale Version")
+    public void givenStaleVersion_whenUpdateEmployeeById_thenConflictWithCurrentVersion() {
+
+        // given - pre-condition or setup data
+        Employee patch = Employee.builder().age(30).build();
+        given(employeeRepository.updateEmployeeByIdAndVersion(1L, 3L, null, 30, null)).willReturn(0);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(4L));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeConflictException conflict = Assertions.assertThrows(EmployeeConflictException.class, () -> employeeService.updateEmployeeById(1L, patch, 3L));
+
+        // then - verify the output
+        assertThat(conflict.getCurrentVersion()).isEqualTo(4L);
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee By Id With Version Of Deleted Employee")
+    public void givenDeletedEmployee_whenUpdateEmployeeByIdWithVersion_thenReturnEmpty() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.updateEmployeeByIdAndVersion(2L, 3L, "Vedha", null, null)).willReturn(0);
+        given(employeeRepository.findVersionById(2L)).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> updated = employeeService.updateEmployeeById(2L, Employee.builder().name("Vedha").build(), 3L);
+
+        // then - verify the output
+        assertThat(updated).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Modify Employee By Id Retrying A Conflict")
+    public void givenConcurrentWrite_whenModifyEmployeeById_thenRetriedAndModified() {
+
+        // given - pre-condition or setup data
+        Consumer<Employee> birthday = current -> current.setAge(current.getAge() + 1);
+        employee.setAge(22);
+        given(employeeRepository.modifyEmployee(1L, birthday))
+                .willThrow(new ObjectOptimisticLockingFailureException(Employee.class, 1L))
+                .willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> modified = employeeService.modifyEmployeeById(1L, birthday);
+
+        // then - verify the output
+        assertThat(modified).contains(employee);
+        verify(employeeRepository, times(2)).modifyEmployee(1L, birthday);
+        verify(employeeNameIndex).put(employee);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Modify Employee By Id Giving Up On A Hot Row")
+    public void givenEndlessConflicts_whenModifyEmployeeById_thenConflictAfterMaxAttempts() {
+
+        // given - pre-condition or setup data
+        Consumer<Employee> birthday = current -> current.setAge(current.getAge() + 1);
+        given(employeeRepository.modifyEmployee(1L, birthday)).willThrow(new ObjectOptimisticLockingFailureException(Employee.class, 1L));
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(9L));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeConflictException conflict = Assertions.assertThrows(EmployeeConflictException.class, () -> employeeService.modifyEmployeeById(1L, birthday));
+
+        // then - verify the output
+        assertThat(conflict.getCurrentVersion()).isEqualTo(9L);
+        verify(employeeRepository, times(5)).modifyEmployee(1L, birthday);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Update Employee With Stale Version Not Retried")
+    public void givenStaleVersion_whenUpdateEmployee_thenConflictWithoutRetry() {
+
+        // given - pre-condition or setup data
+        employee.setVersion(3L);
+        given(employeeRepository.save(employee)).willThrow(new ObjectOptimisticLockingFailureException(Employee.class, 1L));
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(4L));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeConflictException conflict = Assertions.assertThrows(EmployeeConflictException.class, () -> employeeService.updateEmployee(employee));
+
+        // then - verify the output
+        assertThat(conflict.getCurrentVersion()).isEqualTo(4L);
+        verify(employeeRepository, times(1)).save(employee);
+    }
+
     @Test
     @DisplayName("JUnit Test For Delete Employee By Id")
     public void givenEmployeeId_whenDeleteEmployeeById_thenReturnDeleteCount() {
@@ -174,14 +496,255 @@ class EmployeeServiceTests {
     public void givenEmployeeId_whenDeleteEmployeeById_thenReturnNothing() {
 
         // given - pre-condition or setup data
-        willDoNothing().given(employeeRepository).deleteById(1L);
+        given(employeeRepository.deleteEmployeeById(1L)).willReturn(1L);
 
         // when - action or the behaviour that we are going to test
         employeeService.deleteEmployeeByIdNoReturn(1L);
 
         // then - verify the output
-        verify(employeeRepository, Mockito.times(1)).deleteById(1L);
+        verify(employeeRepository, Mockito.times(1)).deleteEmployeeById(1L);
+        verify(employeeCountEstimate, Mockito.times(1)).add(-1L);
+
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Keyset Paginated")
+    public void givenContinuationToken_whenGetAllKeysetPaginated_thenReturnNextWindow() {
+
+        // given - pre-condition or setup data
+        Employee employee1 = Employee.builder().id(2L).name("Test2").age(22).email("test2@gmail.com").build();
+        Sort sort = Sort.by(Sort.Direction.ASC, "age", "id");
+        given(employeeRepository.findAllBy(eq(ScrollPosition.keyset()), eq(sort), eq(Limit.of(2))))
+                .willReturn(Window.from(List.of(employee, employee1), ScrollPosition::offset, true));
+        given(employeeRepository.findAllBy(eq(ScrollPosition.forward(Map.of("age", 22, "id", 2L))), eq(sort), eq(Limit.of(2))))
+                .willReturn(Window.from(Collections.emptyList(), ScrollPosition::offset, false));
+
+        // when - action or the behaviour that we are going to test
+        EmployeeWindow first = employeeService.getAllEmployeeKeysetPaginated(null, 2, Sort.Direction.ASC, SortField.AGE);
+        EmployeeWindow next = employeeService.getAllEmployeeKeysetPaginated(first.getContinuationToken(), 2, Sort.Direction.ASC, SortField.AGE);
+
+        // then - verify the output
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getContinuationToken()).isNotNull();
+        assertThat(next.getContent()).isEmpty();
+        assertThat(next.getContinuationToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Keyset Paginated Negative")
+    public void givenMismatchedContinuationToken_whenGetAllKeysetPaginated_thenThrowException() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .willReturn(Window.from(List.of(employee), ScrollPosition::offset, true));
+        EmployeeWindow first = employeeService.getAllEmployeeKeysetPaginated(null, 1, Sort.Direction.ASC, SortField.NAME);
+
+        // when - action or the behaviour that we are going to test
+        Assertions.assertThrows(EmployeeException.class, () -> employeeService.getAllEmployeeKeysetPaginated(first.getContinuationToken(), 1, Sort.Direction.DESC, SortField.NAME));
+
+        // then - verify the output
+        verify(employeeRepository, Mockito.times(1)).findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Paginated Projection")
+    public void givenProjectionType_whenGetAllPaginated_thenReturnProjectedPage() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "name"));
+        given(employeeRepository.findAllBy(pageRequest, EmployeeSummary.class))
+                .willReturn(new PageImpl<>(List.of(new EmployeeSummary(1L, "Test", 0L)), pageRequest, 1));
+
+        // when - action or the behaviour that we are going to test
+        Page<EmployeeSummary> page = employeeService.getAllEmployeePaginated(0, 2, Sort.Direction.ASC, SortField.NAME, EmployeeSummary.class);
+
+        // then - verify the output
+        assertThat(page.getContent()).containsExactly(new EmployeeSummary(1L, "Test", 0L));
+        verify(employeeRepository, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Paginated Without Count")
+    public void givenCountNone_whenGetAllPaginated_thenSliceWithoutCountQuery() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeRepository.findSliceBy(pageRequest, Employee.class)).willReturn(new SliceImpl<>(List.of(employee, employee), pageRequest, true));
+
+        // when - action or the behaviour that we are going to test
+        Slice<Employee> slice = employeeService.getAllEmployeePaginated(1, 2, Sort.Direction.ASC, SortField.ID, Employee.class, PageCount.NONE);
+
+        // then - verify the output
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.hasNext()).isTrue();
+        verify(employeeRepository, never()).findAll(any(PageRequest.class));
+        verify(employeeRepository, never()).count();
+        verify(employeeCountEstimate, never()).get();
+    }
 
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Paginated With Approximate Count")
+    public void givenCountApproximate_whenGetAllPaginated_thenEstimatedTotalWithoutCountQuery() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeRepository.findSliceBy(pageRequest, Employee.class)).willReturn(new SliceImpl<>(List.of(employee, employee), pageRequest, true));
+        given(employeeCountEstimate.get()).willReturn(1000L).willReturn(2L);
+
+        // when - action or the behaviour that we are going to test
+        Page<Employee> page = (Page<Employee>) employeeService.getAllEmployeePaginated(1, 2, Sort.Direction.ASC, SortField.ID, Employee.class, PageCount.APPROXIMATE);
+        Page<Employee> staleEstimate = (Page<Employee>) employeeService.getAllEmployeePaginated(1, 2, Sort.Direction.ASC, SortField.ID, Employee.class, PageCount.APPROXIMATE);
+
+        // then - verify the output
+        assertThat(page.getTotalElements()).isEqualTo(1000L);
+        assertThat(staleEstimate.getTotalElements()).isEqualTo(5L);
+        assertThat(staleEstimate.hasNext()).isTrue();
+        verify(employeeRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Get All Employee Paginated With Approximate Count On Last Page")
+    public void givenLastPage_whenGetAllPaginatedApproximate_thenExactTotalFromSlice() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(3, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeRepository.findSliceBy(pageRequest, Employee.class)).willReturn(new SliceImpl<>(List.of(employee), pageRequest, false));
+
+        // when - action or the behaviour that we are going to test
+        Slice<Employee> page = employeeService.getAllEmployeePaginated(3, 2, Sort.Direction.ASC, SortField.ID, Employee.class, PageCount.APPROXIMATE);
+
+        // then - verify the output
+        assertThat(((Page<Employee>) page).getTotalElements()).isEqualTo(7L);
+        verify(employeeCountEstimate, never()).get();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Create And Delete Adjust The Count Estimate")
+    public void givenCreateAndDeletes_whenDone_thenCountEstimateAdjusted() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.deleteAllByIds(List.of(1L, 2L, 3L))).willReturn(2);
+        given(employeeRepository.deleteEmployeeById(4L)).willReturn(1L);
+        given(employeeRepository.deleteEmployeeById(5L)).willReturn(1L);
+
+        // when - action or the behaviour that we are going to test
+        employeeService.saveEmployee(employee);
+        employeeService.deleteEmployeeByIds(List.of(3L, 1L, 2L));
+        employeeService.deleteEmployeeById(4L);
+        employeeService.deleteEmployeeByIdNoReturn(5L);
+
+        // then - verify the output
+        verify(employeeCountEstimate, times(1)).add(1);
+        verify(employeeCountEstimate, times(1)).add(-2);
+        verify(employeeCountEstimate, times(2)).add(-1);
+        verify(employeeCountEstimate, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Paginated ETag")
+    public void givenPageVersions_whenGetPaginatedETag_thenChangeOnlyWithVersions() {
+
+        // given - pre-condition or setup data
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        given(employeeRepository.findAllBy(pageRequest, EmployeeVersion.class))
+                .willReturn(new PageImpl<>(List.of(new EmployeeVersion(1L, 0L), new EmployeeVersion(2L, 0L)), pageRequest, 3))
+                .willReturn(new PageImpl<>(List.of(new EmployeeVersion(1L, 0L), new EmployeeVersion(2L, 0L)), pageRequest, 3))
+                .willReturn(new PageImpl<>(List.of(new EmployeeVersion(1L, 1L), new EmployeeVersion(2L, 0L)), pageRequest, 3));
+
+        // when - action or the behaviour that we are going to test
+        String first = employeeService.getAllEmployeePaginatedETag(0, 2, Sort.Direction.ASC, SortField.ID, EmployeeProjection.ENTITY, PageCount.EXACT);
+        String unchanged = employeeService.getAllEmployeePaginatedETag(0, 2, Sort.Direction.ASC, SortField.ID, EmployeeProjection.ENTITY, PageCount.EXACT);
+        String updated = employeeService.getAllEmployeePaginatedETag(0, 2, Sort.Direction.ASC, SortField.ID, EmployeeProjection.ENTITY, PageCount.EXACT);
+
+        // then - verify the output
+        assertThat(first).isEqualTo(unchanged).startsWith("W/\"p-");
+        assertThat(updated).isNotEqualTo(first);
+        assertThat(first).isEqualTo(EmployeeETag.ofPage(new PageImpl<>(List.of(
+                Employee.builder().id(1L).version(0L).build(), Employee.builder().id(2L).version(0L).build()), pageRequest, 3), EmployeeProjection.ENTITY));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Search Employee")
+    @SuppressWarnings("unchecked")
+    public void givenSearchCriteria_whenSearchEmployee_thenReturnPageSortedWithIdTieBreaker() {
+
+        // given - pre-condition or setup data
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().minAge(20).maxAge(30).namePrefix("Te").emailDomain("gmail.com").build();
+        PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "age", "id"));
+        given(employeeRepository.findAll(any(Specification.class), eq(pageRequest))).willReturn(new PageImpl<>(List.of(employee), pageRequest, 1));
+
+        // when - action or the behaviour that we are going to test
+        Page<Employee> page = employeeService.searchEmployee(criteria, 0, 5, Sort.Direction.DESC, SortField.AGE);
+
+        // then - verify the output
+        assertThat(page.getContent()).containsExactly(employee);
+        verify(employeeRepository, Mockito.times(1)).findAll(any(Specification.class), eq(pageRequest));
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Save Employee Indexes Name")
+    public void givenEmployee_whenSave_thenAddToNameIndex() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.save(employee)).willReturn(employee);
+
+        // when - action or the behaviour that we are going to test
+        employeeService.saveEmployee(employee);
+        employeeService.deleteEmployeeByIdNoReturn(employee.getId());
+
+        // then - verify the output
+        verify(employeeNameIndex, Mockito.times(1)).put(employee);
+        verify(employeeNameIndex, Mockito.times(1)).remove(employee.getId());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee By Ids")
+    public void givenEmployeeIds_whenDeleteByIds_thenReturnDeleteCount() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.deleteAllByIds(List.of(1L, 2L, 3L))).willReturn(2);
+
+        // when - action or the behaviour that we are going to test
+        long deleteCount = employeeService.deleteEmployeeByIds(List.of(3L, 1L, 2L, 1L));
+
+        // then - verify the output
+        assertThat(deleteCount).isEqualTo(2);
+        verify(employeeRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee By Ids Skipping Null Ids")
+    public void givenEmployeeIdsWithNull_whenDeleteByIds_thenNullIgnored() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.deleteAllByIds(List.of(1L, 3L))).willReturn(2);
+
+        // when - action or the behaviour that we are going to test
+        long deleteCount = employeeService.deleteEmployeeByIds(Arrays.asList(3L, null, 1L));
+
+        // then - verify the output
+        assertThat(deleteCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JUnit Test For Delete Employee By Age Range")
+    public void givenAgeRange_whenDeleteByAgeRange_thenDeleteChunkedByIdRange() {
+
+        // given - pre-condition or setup data
+        given(employeeRepository.findFirstIdFrom(Long.MIN_VALUE)).willReturn(5L);
+        given(employeeRepository.deleteByIdRangeAndAgeBetween(5L, 1005L, 20, 30)).willReturn(10);
+        given(employeeRepository.findFirstIdFrom(1005L)).willReturn(5000L);
+        given(employeeRepository.deleteByIdRangeAndAgeBetween(5000L, 6000L, 20, 30)).willReturn(3);
+        given(employeeRepository.findFirstIdFrom(6000L)).willReturn(null);
+
+        // when - action or the behaviour that we are going to test
+        long deleteCount = employeeService.deleteEmployeeByAgeRange(20, 30);
+
+        // then - verify the output
+        assertThat(deleteCount).isEqualTo(13);
+        verify(employeeRepository, Mockito.times(2)).deleteByIdRangeAndAgeBetween(any(), any(), eq(20), eq(30));
     }
 
 }
\ No newline at end of file
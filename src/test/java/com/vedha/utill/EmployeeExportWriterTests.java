@@ -0,0 +1,48 @@
+package com.vedha.utill;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vedha.entity.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeExportWriterTests {
+
+    // Counts the flushes reaching the response stream, each one is a chunk (and a gzip sync flush) on the wire
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+
+            flushes++;
+        }
+    }
+
+    @Test
+    @DisplayName("JUnit Test For NDJSON Export Flushing Once")
+    public void givenManyEmployees_whenExportNdjson_thenOneLinePerEmployeeAndOneFlush() throws IOException {
+
+        // given - pre-condition or setup data
+        FlushCountingOutputStream outputStream = new FlushCountingOutputStream();
+        EmployeeExportWriter exportWriter = new EmployeeExportWriter(ExportFormat.NDJSON, new ObjectMapper(), outputStream);
+
+        // when - action or the behaviour that we are going to test
+        LongStream.rangeClosed(1, 1000).mapToObj(id -> Employee.builder().id(id).name("Test" + id).age(20).email("test" + id + "@gmail.com").build())
+                .forEach(exportWriter);
+        exportWriter.flush();
+
+        // then - verify the output
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1000);
+        assertThat(lines[999]).startsWith("{\"id\":1000,");
+        assertThat(outputStream.flushes).isEqualTo(1);
+    }
+}